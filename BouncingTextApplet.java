@@ -1,32 +1,105 @@
 import java.applet.Applet;
 import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.image.VolatileImage;
 
 // Class must extend Applet and implement Runnable for the thread [cite: 5]
 public class BouncingTextApplet extends Applet implements Runnable {
+    // Fixed simulation rate; the loop renders once after catching up on updates
+    private static final int UPDATES_PER_SECOND = 60;
+    private static final long NANOS_PER_UPDATE = 1_000_000_000L / UPDATES_PER_SECOND;
+    // Most updates run before a render, so a long stall cannot snowball
+    private static final int MAX_UPDATES_PER_FRAME = 5;
+    // How often the stats overlay text is recomputed
+    private static final long NANOS_PER_STATS_REFRESH = 500_000_000L;
+    private static final Font STATS_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
     // Variables for the animation state
-    private Thread animationThread; // The thread for animation [cite: 7]
+    private volatile Thread animationThread; // The thread for animation [cite: 7]
     private String name = "KANU TECHOME"; // Initialize String with your name [cite: 6]
-    private int xCoord = 0; // Current x-coordinate for the text [cite: 10]
-    private final int yCoord = 50; // Fixed y-coordinate (vertical position)
-    private final int textSpeed = 5; // Speed of movement
-    private int xSpeed = 3; // NEW: Horizontal speed
-    private int ySpeed = 3; // NEW: Vertical speed
-    private Font textFont; // NEW: Font object for consistent measurement
-    
+    private Font textFont; // Font object for consistent measurement
+
+    // Simulation and drawing; the applet only drives it and shows the result [cite: 10]
+    private volatile BouncingTextScene scene;
+
+    // Offscreen buffer the frame is drawn into before it is copied to the screen
+    private VolatileImage backBuffer;
+
+    // Timings of the last 1024 frames, and the overlay that shows them (toggled with F3)
+    private final FrameStats frameStats = new FrameStats(1024);
+    private volatile boolean showStats;
+    private volatile String[] statsLines = new String[0];
+    private long statsRefreshed;
+
      //Called when the applet is first loaded.
-     
+
     public void init() {
         // Set the applet's size (required for AppletViewer) [cite: 6]
         setSize(3000, 900);
         // Set a background color [cite: 6]
         setBackground(Color.BLACK);
         // Initialize a Font object for accurate height/width measurements
-        textFont = new Font("Times New Roman", Font.BOLD, 40); 
+        textFont = new Font("Times New Roman", Font.BOLD, 40);
+        if (scene == null) {
+            scene = new BouncingTextScene(name, textFont, this::getFontMetrics);
+        }
+        scene.setBackground(getBackground());
+
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                invalidateMetrics();
+            }
+        });
+        addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_F3) {
+                    setShowStats(!showStats);
+                }
+            }
+        });
     }
 
-    
+    // Changes the bouncing text; its metrics are measured again on the next update
+    public synchronized void setText(String text) {
+        name = text;
+        if (scene != null) {
+            scene.setText(text);
+        }
+    }
+
+    // The scene paints its own background, so keep it in step with the applet's
+    @Override
+    public void setBackground(Color color) {
+        super.setBackground(color);
+        if (scene != null) {
+            scene.setBackground(color);
+        }
+    }
+
+    private void invalidateMetrics() {
+        if (scene != null) {
+            scene.invalidateMetrics();
+        }
+    }
+
+    // Shows or hides the frame-time overlay in the top-left corner
+    public void setShowStats(boolean show) {
+        showStats = show;
+    }
+
+    // Frame timings recorded by the animation thread
+    public FrameStats frameStats() {
+        return frameStats;
+    }
+
+
      //Called to create and start the animation thread.
-     
+
     public void start() {
         // Create and start a new thread (this, because the class implements Runnable) [cite: 7]
         if (animationThread == null) {
@@ -35,67 +108,138 @@ public class BouncingTextApplet extends Applet implements Runnable {
         }
     }
 
-    
-     //The thread's main execution loop.
-     
+
+     //The thread's main execution loop: fixed-timestep updates, one render per loop.
+
     public void run() {
+        long previous = System.nanoTime();
+        long lag = 0;
+
         // Use a while loop to keep the animation running [cite: 9]
         while (Thread.currentThread() == animationThread) {
-            // 1. Update the x-coordinate of the text [cite: 10]
-           xCoord += textSpeed;
-            yCoord += ySpeed;
-
-           // 2. Bouncing Logic
-            // Get necessary metrics for boundary checks
-            int appletWidth = getSize().width;
-            int appletHeight = getSize().height;
-            FontMetrics fm = getFontMetrics(textFont);
-            int textWidth = fm.stringWidth(name);
-            int textHeight = fm.getAscent(); // Text height above the baseline
-
-
-           // Horizontal Bounce
-            // Check right edge
-            if (xCoord + textWidth > appletWidth) {
-                xCoord = appletWidth - textWidth; // Position exactly at the edge
-                xSpeed = -xSpeed; // Reverse direction
-            } 
-            // Check left edge
-            else if (xCoord < 0) {
-                xCoord = 0; // Position exactly at the edge
-                xSpeed = -xSpeed; // Reverse direction
+            long frameStart = System.nanoTime();
+            lag += frameStart - previous;
+            previous = frameStart;
+
+            // 1. Advance the simulation in fixed steps for the time that has passed [cite: 10]
+            int updates = 0;
+            long updateStart = frameStart;
+            while (lag >= NANOS_PER_UPDATE && updates < MAX_UPDATES_PER_FRAME) {
+                advance(NANOS_PER_UPDATE / 1e9);
+                lag -= NANOS_PER_UPDATE;
+                updates++;
             }
-            // Vertical Bounce
-              // Check bottom edge (yCoord is the baseline, so subtract text height)
-            if (yCoord + fm.getDescent() > appletHeight) {
-                yCoord = appletHeight - fm.getDescent(); // Position exactly at the bottom
-                ySpeed = -ySpeed; // Reverse direction
+            if (updates == MAX_UPDATES_PER_FRAME) {
+                // Too far behind (e.g. the window was dragged); drop the backlog
+                lag = 0;
             }
 
-             // Check top edge (yCoord is the baseline, must be greater than text height)
-            else if (yCoord < textHeight) { 
-                yCoord = textHeight; // Position exactly at the top
-                ySpeed = -ySpeed; // Reverse direction
+            long paintStart = System.nanoTime();
+
+            // 2. Draw the frame right away instead of waiting for repaint() [cite: 12]
+            if (showStats && paintStart - statsRefreshed >= NANOS_PER_STATS_REFRESH) {
+                refreshStatsLines();
+                statsRefreshed = paintStart;
             }
+            renderFrame();
+            long paintEnd = System.nanoTime();
+
+            // 3. Sleep until the next update is due, minus the time this frame took [cite: 13]
+            long sleepNanos = NANOS_PER_UPDATE - lag - (paintEnd - frameStart);
+            long overshoot = 0;
+            if (sleepNanos > 0) {
+                try {
+                    Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    // If the thread is interrupted, break the loop and stop the animation
+                    break;
+                }
+                // Time slept beyond what was asked for
+                overshoot = Math.max(0, System.nanoTime() - paintEnd - sleepNanos);
+            }
+            frameStats.record(paintStart - updateStart, paintEnd - paintStart, overshoot);
+        }
+    }
 
+    private void refreshStatsLines() {
+        FrameStats.Snapshot snapshot = frameStats.snapshot(NANOS_PER_UPDATE);
+        statsLines = new String[] {
+            "frames " + snapshot.frames + ", over " + NANOS_PER_UPDATE / 1_000_000 + " ms budget: "
+                + snapshot.overBudget,
+            "update    " + snapshot.update,
+            "paint     " + snapshot.paint,
+            "overshoot " + snapshot.overshoot
+        };
+    }
 
-        
+    // Moves the text by one time step
+    private void advance(double seconds) {
+        scene.advance(seconds, getWidth(), getHeight());
+    }
 
-            // 3. Request the applet to redraw the screen (calls paint()) [cite: 12]
-            repaint();
+    // Renders the current state straight to the screen from the animation thread
+    private void renderFrame() {
+        Graphics g = getGraphics();
+        if (g == null) {
+            return; // Not displayable yet
+        }
+        try {
+            render(g);
+        } finally {
+            g.dispose();
+        }
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    // Draws the frame into the back buffer, then copies it to target in one operation
+    private synchronized void render(Graphics target) {
+        int width = getWidth();
+        int height = getHeight();
+        if (scene == null || width <= 0 || height <= 0) {
+            return;
+        }
 
-            // 4. Pause the animation for 100 milliseconds [cite: 13]
+        do {
+            if (backBuffer == null || backBuffer.getWidth() != width || backBuffer.getHeight() != height
+                    || backBuffer.validate(getGraphicsConfiguration()) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                backBuffer = createVolatileImage(width, height);
+                if (backBuffer == null) {
+                    // No accelerated buffer available; draw directly
+                    drawScene(target, width, height);
+                    return;
+                }
+            }
+
+            Graphics2D g = backBuffer.createGraphics();
             try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                // If the thread is interrupted, break the loop and stop the animation
-                break;
+                drawScene(g, width, height);
+            } finally {
+                g.dispose();
             }
+            target.drawImage(backBuffer, 0, 0, null);
+        } while (backBuffer.contentsLost());
+    }
+
+    private void drawScene(Graphics g, int width, int height) {
+        scene.draw(g, width, height);
+
+        if (showStats) {
+            drawStats(g);
+        }
+    }
+
+    private void drawStats(Graphics g) {
+        String[] lines = statsLines;
+        g.setFont(STATS_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        g.setColor(Color.GREEN);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], 8, 8 + fm.getAscent() + i * fm.getHeight());
         }
     }
 
      // Called to stop the thread when the applet is inactive.
-     
+
     public void stop() {
         // Stop the thread by setting it to null [cite: 8]
         if (animationThread != null) {
@@ -103,13 +247,15 @@ public class BouncingTextApplet extends Applet implements Runnable {
         }
     }
 
-    
-     // Draws the text on the screen.
-     
+
+     // Draws the text on the screen (used when AWT asks for a repaint, e.g. after an expose).
+
     public void paint(Graphics g) {
-        // Set the color for the text
-        g.setColor(Color.WHITE);
-        // Use g.drawString() to draw the text at the current x-coordinate [cite: 14]
-        g.drawString(name, xCoord, yCoord);
+        render(g);
+    }
+
+    // The back buffer covers the whole area, so skip the default clear that causes flicker
+    public void update(Graphics g) {
+        paint(g);
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.function.Function;
+
+// The bouncing-text simulation and drawing of BouncingTextApplet, without the Applet. It draws
+// into any Graphics, so the same code renders to the screen, to a VolatileImage back buffer or
+// to a BufferedImage with java.awt.headless=true.
+public class BouncingTextScene {
+
+    private final SpriteField sprites = new SpriteField(1, 1);
+    private final Function<Font, FontMetrics> metricsSource;
+    private final Font font;
+    private volatile Color background = Color.BLACK;
+    private String text;
+
+    // Text metrics, measured once and invalidated only when the text, font or size changes
+    private boolean metricsValid;
+
+    // The text starts at (0, 50) and moves 100 px/s right and 60 px/s down
+    // (5 and 3 px per 50 ms frame). Text is measured with metricsSource.
+    public BouncingTextScene(String text, Font font, Function<Font, FontMetrics> metricsSource) {
+        this.text = text;
+        this.font = font;
+        this.metricsSource = metricsSource;
+        sprites.add(text, 0, 50, 100, 60, 0, 0, 0);
+    }
+
+    // A scene that measures text without a display, through a scratch image
+    public static BouncingTextScene headless(String text, Font font) {
+        Graphics2D scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB).createGraphics();
+        return new BouncingTextScene(text, font, scratch::getFontMetrics);
+    }
+
+    public Font font() {
+        return font;
+    }
+
+    public Color background() {
+        return background;
+    }
+
+    public void setBackground(Color color) {
+        background = color;
+    }
+
+    // Changes the bouncing text; its metrics are measured again on the next update
+    public synchronized void setText(String text) {
+        this.text = text;
+        metricsValid = false;
+    }
+
+    public synchronized void invalidateMetrics() {
+        metricsValid = false;
+    }
+
+    // Moves the text by one time step; SpriteField bounces it off the edges
+    public synchronized void advance(double seconds, int width, int height) {
+        // Get necessary metrics for boundary checks
+        if (!metricsValid) {
+            FontMetrics fm = metricsSource.apply(font);
+            // Width, height above the baseline and depth below it
+            sprites.setText(0, text, fm.stringWidth(text), fm.getAscent(), fm.getDescent());
+            metricsValid = true;
+        }
+        sprites.step((float) seconds, width, height);
+    }
+
+    // Clears the area and draws every label at its current position
+    public synchronized void draw(Graphics g, int width, int height) {
+        g.setColor(background);
+        g.fillRect(0, 0, width, height);
+        // Set the color for the text
+        g.setColor(Color.WHITE);
+        g.setFont(font);
+        // Use g.drawString() to draw the text at the current coordinates
+        for (int i = 0; i < sprites.size(); i++) {
+            g.drawString(sprites.label(i), (int) sprites.x(i), (int) sprites.y(i));
+        }
+    }
+}
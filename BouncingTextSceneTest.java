@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BouncingTextSceneTest {
+
+    private static BufferedImage render(BouncingTextScene scene, int frames, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            for (int i = 0; i < frames; i++) {
+                scene.advance(1.0 / 60, width, height);
+                scene.draw(g, width, height);
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    @Test
+    void testPaintsBackgroundColor() {
+        BouncingTextScene scene = BouncingTextScene.headless("HI", new Font(Font.SANS_SERIF, Font.BOLD, 20));
+        scene.setBackground(Color.BLUE);
+        BufferedImage image = render(scene, 1, 200, 100);
+
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(199, 99));
+    }
+
+    @Test
+    void testTextStaysVisibleWhileBouncing() {
+        BouncingTextScene scene = BouncingTextScene.headless("HI", new Font(Font.SANS_SERIF, Font.BOLD, 20));
+        // Long enough to bounce off every wall several times
+        BufferedImage image = render(scene, 600, 120, 80);
+
+        boolean textDrawn = false;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                textDrawn |= image.getRGB(x, y) != Color.BLACK.getRGB();
+            }
+        }
+        assertTrue(textDrawn);
+    }
+}
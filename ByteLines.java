@@ -0,0 +1,64 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// Splits raw bytes into lines without creating a String per line.
+// Handlers receive the line as a [start, end) slice of a shared buffer, without the '\n'.
+public final class ByteLines {
+
+    public interface LineHandler {
+        void line(byte[] buffer, int start, int end) throws IOException;
+    }
+
+    private ByteLines() {
+    }
+
+    // Calls handler for every line in buffer[from, to); a final line without '\n' is included
+    public static void forEach(byte[] buffer, int from, int to, LineHandler handler) throws IOException {
+        int lineStart = from;
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == '\n') {
+                handler.line(buffer, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < to) {
+            handler.line(buffer, lineStart, to);
+        }
+    }
+
+    // Streams every line of in to handler. The buffer grows if a single line does not fit.
+    public static void forEach(InputStream in, int bufferSize, LineHandler handler) throws IOException {
+        byte[] buffer = new byte[bufferSize];
+        int carry = 0;
+        int read;
+
+        while ((read = in.read(buffer, carry, buffer.length - carry)) != -1) {
+            int limit = carry + read;
+            int lineStart = 0;
+            for (int i = carry; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    handler.line(buffer, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+
+            // Keep the partial last line for the next read
+            carry = limit - lineStart;
+            if (lineStart == 0 && carry == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            } else {
+                System.arraycopy(buffer, lineStart, buffer, 0, carry);
+            }
+        }
+
+        if (carry > 0) {
+            handler.line(buffer, 0, carry);
+        }
+    }
+
+    // True for the whitespace allowed around a line's content
+    public static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
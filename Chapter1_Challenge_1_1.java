@@ -1,40 +1,42 @@
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.InputMismatchException;
 import java.util.Scanner;
 
 public class Chapter1_Challenge_1_1 {
-    public static void main(String[] args) {
-        Scanner input = new Scanner(System.in);
-
-        try {
-            System.out.print("Enter the cryptic integer: ");
-            int number = input.nextInt();
-
-            if (number <= 0) {
-                throw new IllegalArgumentException("Number must be a positive integer!");
-            }
 
-            // Step 1: Extract the first digit
-            int numDigits = (int) Math.log10(number) + 1;
-            int firstDigit = number / (int) Math.pow(10, numDigits - 1);
+    // Powers of ten that fit in a long, used instead of Math.pow/Math.log10
+    static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+        100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L,
+        1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
 
-            // Step 2: Extract the last digit
-            int lastDigit = number % 10;
+    // Longest code: product (max 81) followed by sum (max 18)
+    static final int MAX_CODE_LENGTH = 4;
 
-            // Step 3: Product of first and last
-            int product = firstDigit * lastDigit;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
 
-            // Step 4: Extract second and second-last digits
-            int secondDigit = (number / (int) Math.pow(10, numDigits - 2)) % 10;
-            int secondLastDigit = (number / 10) % 10;
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args.length > 1 ? args[1] : null);
+            return;
+        }
 
-            // Step 5: Sum of second and second-last
-            int sum = secondDigit + secondLastDigit;
+        Scanner input = new Scanner(System.in);
 
-            // Step 6: Concatenate product and sum
-            String finalCode = String.valueOf(product) + String.valueOf(sum);
+        try {
+            System.out.print("Enter the cryptic integer: ");
+            long number = input.nextLong();
 
-            // Step 7: Display the result
-            System.out.println("The decrypted code is: " + finalCode);
+            // Display the result
+            System.out.println("The decrypted code is: " + decode(number));
 
         } catch (InputMismatchException e) {
             System.err.println("❌ Error: Please enter a valid integer number.");
@@ -46,4 +48,181 @@ public class Chapter1_Challenge_1_1 {
             input.close();
         }
     }
+
+    // Decodes a single cryptic integer into its code string
+    static String decode(long number) {
+        byte[] code = new byte[MAX_CODE_LENGTH];
+        int length = writeCode(number, code, 0);
+        return new String(code, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    // Number of decimal digits of a positive long
+    static int digitCount(long number) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && number >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    // Decodes number and writes the code as ASCII digits into out at pos.
+    // Returns the position just after the written code.
+    static int writeCode(long number, byte[] out, int pos) {
+        if (number <= 0) {
+            throw new IllegalArgumentException("Number must be a positive integer!");
+        }
+
+        int numDigits = digitCount(number);
+        if (numDigits < 2) {
+            throw new IllegalArgumentException("Number must have at least two digits!");
+        }
+
+        // Step 1: Extract the first digit
+        int firstDigit = (int) (number / POWERS_OF_TEN[numDigits - 1]);
+
+        // Step 2: Extract the last digit
+        int lastDigit = (int) (number % 10);
+
+        // Step 3: Product of first and last
+        int product = firstDigit * lastDigit;
+
+        // Step 4: Extract second and second-last digits
+        int secondDigit = (int) ((number / POWERS_OF_TEN[numDigits - 2]) % 10);
+        int secondLastDigit = (int) ((number / 10) % 10);
+
+        // Step 5: Sum of second and second-last
+        int sum = secondDigit + secondLastDigit;
+
+        // Step 6: Concatenate product and sum
+        pos = writeSmall(product, out, pos);
+        return writeSmall(sum, out, pos);
+    }
+
+    // Writes a value in 0..99 as ASCII digits
+    private static int writeSmall(int value, byte[] out, int pos) {
+        if (value >= 10) {
+            out[pos++] = (byte) ('0' + value / 10);
+        }
+        out[pos++] = (byte) ('0' + value % 10);
+        return pos;
+    }
+
+    // Parses the record in[start, end) and appends its code plus a newline to out.
+    // Blank records are skipped and return pos unchanged; invalid ones return -1.
+    static int decodeRecord(byte[] in, int start, int end, byte[] out, int pos) {
+        while (start < end && isBlank(in[start])) {
+            start++;
+        }
+        while (end > start && isBlank(in[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return pos;
+        }
+        if (in[start] == '+') {
+            start++;
+        }
+        if (start == end || end - start > 19) {
+            return -1;
+        }
+
+        long number = 0;
+        for (int i = start; i < end; i++) {
+            int digit = in[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            number = number * 10 + digit;
+        }
+        // 19 digits may overflow past Long.MAX_VALUE
+        if (number < 10) {
+            return -1;
+        }
+
+        pos = writeCode(number, out, pos);
+        out[pos++] = '\n';
+        return pos;
+    }
+
+    static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    // Decodes one code per line from a file (or stdin) and writes one code per line to stdout
+    private static void runBatch(String path) {
+        long start = System.nanoTime();
+        long decoded = 0;
+        long invalid = 0;
+
+        try (InputStream in = path == null ? System.in : new FileInputStream(path)) {
+            OutputStream out = new BufferedOutputStream(System.out, IO_BUFFER_SIZE);
+            byte[] buffer = new byte[IO_BUFFER_SIZE];
+            byte[] codes = new byte[IO_BUFFER_SIZE];
+            int codesLength = 0;
+            int carry = 0;
+            int read;
+
+            while ((read = in.read(buffer, carry, buffer.length - carry)) != -1 || carry > 0) {
+                int limit = read == -1 ? carry : carry + read;
+                int lineStart = 0;
+
+                for (int i = 0; i <= limit; i++) {
+                    boolean endOfLine = i < limit ? buffer[i] == '\n' : read == -1;
+                    if (!endOfLine) {
+                        continue;
+                    }
+                    // Flush before the code buffer can overflow (code + newline)
+                    if (codesLength > codes.length - MAX_CODE_LENGTH - 1) {
+                        out.write(codes, 0, codesLength);
+                        codesLength = 0;
+                    }
+                    int next = decodeRecord(buffer, lineStart, i, codes, codesLength);
+                    if (next < 0) {
+                        invalid++;
+                    } else if (next > codesLength) {
+                        decoded++;
+                        codesLength = next;
+                    }
+                    lineStart = i + 1;
+                }
+
+                if (read == -1) {
+                    break;
+                }
+
+                // Keep the partial last line for the next read
+                carry = limit - lineStart;
+                if (carry == buffer.length) {
+                    // A single line filled the whole buffer; it cannot be a valid code
+                    invalid++;
+                    carry = 0;
+                    skipLine(in);
+                } else {
+                    System.arraycopy(buffer, lineStart, buffer, 0, carry);
+                }
+            }
+
+            out.write(codes, 0, codesLength);
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("IO Error: " + e.getMessage());
+            return;
+        }
+
+        reportThroughput(decoded, invalid, System.nanoTime() - start);
+    }
+
+    private static void skipLine(InputStream in) throws IOException {
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            // discard
+        }
+    }
+
+    static void reportThroughput(long decoded, long invalid, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        double rate = seconds > 0 ? decoded / seconds : 0;
+        System.err.printf("Decoded %d codes (%d invalid) in %.3f s: %.0f codes/sec%n",
+            decoded, invalid, seconds, rate);
+    }
 }
@@ -0,0 +1,66 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Chapter1_Challenge_1_1Test {
+
+    // Decodes one record; returns the written text, "" for a skipped blank record, or null if invalid
+    private static String decodeRecord(String record) {
+        byte[] in = record.getBytes(StandardCharsets.US_ASCII);
+        byte[] out = new byte[Chapter1_Challenge_1_1.MAX_CODE_LENGTH + 1];
+        int pos = Chapter1_Challenge_1_1.decodeRecord(in, 0, in.length, out, 0);
+        return pos < 0 ? null : new String(out, 0, pos, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void testDecodesReadmeExample() {
+        assertEquals("2011", Chapter1_Challenge_1_1.decode(5834));
+        assertEquals("2011\n", decodeRecord("5834"));
+    }
+
+    @Test
+    void testRequiresAtLeastTwoDigits() {
+        assertThrows(IllegalArgumentException.class, () -> Chapter1_Challenge_1_1.decode(7));
+        assertThrows(IllegalArgumentException.class, () -> Chapter1_Challenge_1_1.decode(0));
+        assertThrows(IllegalArgumentException.class, () -> Chapter1_Challenge_1_1.decode(-58));
+        assertNull(decodeRecord("7"));
+        // 1 * 0 = 0 and 0 + 1 = 1
+        assertEquals("01\n", decodeRecord("10"));
+    }
+
+    @Test
+    void testAcceptsPlusPrefixAndTrimsBlanks() {
+        assertEquals("2011\n", decodeRecord("+5834"));
+        assertEquals("2011\n", decodeRecord("5834\r"));
+        assertEquals("2011\n", decodeRecord(" \t5834 \r"));
+        assertEquals("", decodeRecord(" \r"));
+        assertEquals("", decodeRecord(""));
+    }
+
+    @Test
+    void testRejectsMalformedRecords() {
+        assertNull(decodeRecord("-5834"));
+        assertNull(decodeRecord("+"));
+        assertNull(decodeRecord("58a4"));
+        assertNull(decodeRecord("58 34"));
+        assertNull(decodeRecord("++5834"));
+    }
+
+    @Test
+    void testLongRangeLimits() {
+        // Long.MAX_VALUE: 9 * 7 = 63 and 2 + 0 = 2
+        assertEquals("632\n", decodeRecord("9223372036854775807"));
+        assertNull(decodeRecord("9223372036854775808"));
+        assertNull(decodeRecord("9999999999999999999"));
+        assertNull(decodeRecord("10000000000000000000"));
+    }
+
+    @Test
+    void testDigitCount() {
+        assertEquals(1, Chapter1_Challenge_1_1.digitCount(9));
+        assertEquals(2, Chapter1_Challenge_1_1.digitCount(10));
+        assertEquals(19, Chapter1_Challenge_1_1.digitCount(Long.MAX_VALUE));
+    }
+}
@@ -17,24 +17,8 @@ public class Chapter1_Challenge_1_2 {
                 // Remove dashes
                 String continuousNumber = number.replace("-", "");
 
-                // Convert to char array
-                char[] digitsChars = continuousNumber.toCharArray();
-
-                int[] digits = new int[digitsChars.length];
-                int sum = 0;
-
-                // Convert characters to integers
-                for (int i = 0; i < digitsChars.length; i++) {
-                    // Defensive: check if the character is a digit
-                    if (Character.isDigit(digitsChars[i])) {
-                        digits[i] = Character.getNumericValue(digitsChars[i]);
-                        sum += digits[i];
-                    } else {
-                        throw new NumberFormatException("Invalid character in number: " + digitsChars[i]);
-                    }
-                }
-
-                double average = (double) sum / digits.length;
+                int sum = digitSum(continuousNumber);
+                double average = (double) sum / continuousNumber.length();
 
                 System.out.printf("Digit Sum: %d, Digit Average: %.1f%n", sum, average);
 
@@ -56,4 +40,26 @@ public class Chapter1_Challenge_1_2 {
         System.out.println("The winning number with the highest average is: " 
             + winningNumberWithHighestAvg + " with an average of " + highestAverage);
     }
+
+    // Sums the digits of a dash-free winning number
+    static int digitSum(String continuousNumber) {
+        // Convert to char array
+        char[] digitsChars = continuousNumber.toCharArray();
+
+        int[] digits = new int[digitsChars.length];
+        int sum = 0;
+
+        // Convert characters to integers
+        for (int i = 0; i < digitsChars.length; i++) {
+            // Defensive: check if the character is a digit
+            if (Character.isDigit(digitsChars[i])) {
+                digits[i] = Character.getNumericValue(digitsChars[i]);
+                sum += digits[i];
+            } else {
+                throw new NumberFormatException("Invalid character in number: " + digitsChars[i]);
+            }
+        }
+
+        return sum;
+    }
 }
\ No newline at end of file
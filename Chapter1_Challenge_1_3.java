@@ -1,92 +1,92 @@
 import java.util.InputMismatchException;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.random.RandomGenerator;
 
 public class Chapter1_Challenge_1_3 {
+
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
         Random rand = new Random();
 
-        int health = 100;
-        boolean defeated = false;
-
-        for (int room = 1; room <= 5; room++) {
-            System.out.println("Entering room " + room + "...");
+        DungeonEngine engine = new DungeonEngine(DungeonEngine.Rules.DEFAULT);
+        long state = engine.play(engine.start(), rand, new ConsoleGuesser(scanner, engine.rules().getMonsterNumbers()),
+            new ConsoleListener());
 
-            int event = rand.nextInt(3) + 1; // 1 to 3
+        int health = DungeonEngine.health(state);
+        if (health > 0) {
+            System.out.println("You cleared the dungeon! Victorious with " + health + " health!");
+        } else {
+            System.out.println("Game over! You have been defeated.");
+        }
 
-            switch (event) {
-                case 1: // Trap
-                    health -= 20;
-                    System.out.println("A trap sprung! Health is now " + health + ".");
-                    if (health <= 0) {
-                        System.out.println("You have been defeated in room " + room + ".");
-                        defeated = true;
-                        break;
-                    }
-                    break;
+        scanner.close();
+    }
 
-                case 2: // Healing potion
-                    int oldHealth = health;
-                    health += 15;
-                    if (health > 100) {
-                        health = 100;
-                    }
-                    System.out.println("You found a healing potion! Health is now " + health + " (capped from " + oldHealth + ").");
-                    break;
+    // Prints each event to the console
+    static class ConsoleListener implements DungeonEngine.Listener {
+        @Override
+        public void roomEntered(int room) {
+            System.out.println("Entering room " + room + "...");
+        }
 
-                case 3: // Monster
-                    int monsterNumber = rand.nextInt(5) + 1; // 1-5
-                    int guess = 0;
+        @Override
+        public void trap(int room, int health) {
+            System.out.println("A trap sprung! Health is now " + health + ".");
+        }
 
-                    System.out.print("A monster appears! Guess a number (1-5) to defeat it: ");
+        @Override
+        public void potion(int room, int oldHealth, int health) {
+            System.out.println("You found a healing potion! Health is now " + health + " (capped from " + oldHealth + ").");
+        }
 
-                    // Handle user input with exception handling
-                    while (true) {
-                        try {
-                            guess = scanner.nextInt();
-                            if (guess < 1 || guess > 5) {
-                                System.out.print("Please enter a number between 1 and 5: ");
-                                continue;
-                            }
-                            break; // valid input
-                        } catch (InputMismatchException e) {
-                            System.out.print("Invalid input! Please enter an integer between 1 and 5: ");
-                            scanner.next(); // clear invalid input
-                        }
-                    }
+        @Override
+        public void monsterAppeared(int room, int monsterNumbers) {
+            System.out.print("A monster appears! Guess a number (1-" + monsterNumbers + ") to defeat it: ");
+        }
 
-                    // do-while loop for guessing
-                    while (guess != monsterNumber) {
-                        System.out.print("Wrong! Try again: ");
-                        try {
-                            guess = scanner.nextInt();
-                            if (guess < 1 || guess > 5) {
-                                System.out.print("Please enter a number between 1 and 5: ");
-                                continue;
-                            }
-                        } catch (InputMismatchException e) {
-                            System.out.print("Invalid input! Please enter an integer between 1 and 5: ");
-                            scanner.next();
-                        }
-                    }
+        @Override
+        public void wrongGuess(int room, int guess, int health) {
+            System.out.print("Wrong! Try again: ");
+        }
 
-                    System.out.println("You defeated the monster!");
-                    break;
-            }
+        @Override
+        public void monsterDefeated(int room, int guesses) {
+            System.out.println("You defeated the monster!");
+        }
 
-            if (health <= 0) {
-                // Player defeated, exit loop early
-                break;
-            }
+        @Override
+        public void defeated(int room) {
+            System.out.println("You have been defeated in room " + room + ".");
         }
+    }
 
-        if (health > 0) {
-            System.out.println("You cleared the dungeon! Victorious with " + health + " health!");
-        } else {
-            System.out.println("Game over! You have been defeated.");
+    // Reads monster guesses from the console
+    static class ConsoleGuesser implements DungeonEngine.Guesser {
+        private final Scanner scanner;
+        private final int monsterNumbers;
+
+        ConsoleGuesser(Scanner scanner, int monsterNumbers) {
+            this.scanner = scanner;
+            this.monsterNumbers = monsterNumbers;
         }
 
-        scanner.close();
+        @Override
+        public int nextGuess(int attempt, int tried, RandomGenerator rng) {
+            // Handle user input with exception handling
+            while (true) {
+                try {
+                    int guess = scanner.nextInt();
+                    if (guess < 1 || guess > monsterNumbers) {
+                        System.out.print("Please enter a number between 1 and " + monsterNumbers + ": ");
+                        continue;
+                    }
+                    return guess; // valid input
+                } catch (InputMismatchException e) {
+                    System.out.print("Invalid input! Please enter an integer between 1 and " + monsterNumbers + ": ");
+                    scanner.next(); // clear invalid input
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
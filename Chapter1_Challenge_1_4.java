@@ -9,49 +9,36 @@ public class Chapter1_Challenge_1_4 {
         }
     }
 
+    // Custom exception for a config file that does not follow the expected layout
+    static class ConfigFormatException extends Exception {
+        public ConfigFormatException(String message) {
+            super(message);
+        }
+    }
+
+    // Parsed contents of config.txt
+    static class Config {
+        final int version;
+        final String filePath;
+
+        Config(int version, String filePath) {
+            this.version = version;
+            this.filePath = filePath;
+        }
+    }
+
     public static void main(String[] args) {
         BufferedReader reader = null;
         try {
             reader = new BufferedReader(new FileReader("config.txt"));
 
-            // Read the first line: version number
-            String line1 = reader.readLine();
-            if (line1 == null) {
-                throw new IOException("Config file is empty or missing version info.");
-            }
-
-            int version;
-            try {
-                version = Integer.parseInt(line1.trim());
-            } catch (NumberFormatException e) {
-                System.out.println("Error: The first line must be a number representing the version.");
-                return; // Exit after handling
-            }
-
-            // Check version
-            if (version < 2) {
-                // Throw custom exception
-                throw new InvalidConfigVersionException("Config version too old!");
-            }
-
-            // Read second line: file path
-            String filePath = reader.readLine();
-            if (filePath == null) {
-                System.out.println("Error: Missing file path in config.");
-                return;
-            }
-
-            // Check if file exists
-            File f = new File(filePath);
-            if (!f.exists()) {
-                throw new IOException("The file at path " + filePath + " does not exist.");
-            }
+            readConfig(reader);
 
             System.out.println("Configuration read successfully!");
 
         } catch (FileNotFoundException e) {
             System.out.println("Error: The configuration file 'config.txt' was not found.");
-        } catch (InvalidConfigVersionException e) {
+        } catch (InvalidConfigVersionException | ConfigFormatException e) {
             System.out.println("Error: " + e.getMessage());
         } catch (IOException e) {
             System.out.println("IO Error: " + e.getMessage());
@@ -69,4 +56,41 @@ public class Chapter1_Challenge_1_4 {
             }
         }
     }
+
+    // Reads the version and referenced file path, validating both
+    static Config readConfig(BufferedReader reader)
+            throws IOException, InvalidConfigVersionException, ConfigFormatException {
+        // Read the first line: version number
+        String line1 = reader.readLine();
+        if (line1 == null) {
+            throw new IOException("Config file is empty or missing version info.");
+        }
+
+        int version;
+        try {
+            version = Integer.parseInt(line1.trim());
+        } catch (NumberFormatException e) {
+            throw new ConfigFormatException("The first line must be a number representing the version.");
+        }
+
+        // Check version
+        if (version < 2) {
+            // Throw custom exception
+            throw new InvalidConfigVersionException("Config version too old!");
+        }
+
+        // Read second line: file path
+        String filePath = reader.readLine();
+        if (filePath == null) {
+            throw new ConfigFormatException("Missing file path in config.");
+        }
+
+        // Check if file exists
+        File f = new File(filePath);
+        if (!f.exists()) {
+            throw new IOException("The file at path " + filePath + " does not exist.");
+        }
+
+        return new Config(version, filePath);
+    }
 }
\ No newline at end of file
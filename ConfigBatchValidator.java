@@ -0,0 +1,176 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Validates many config files at once, as at service startup.
+// 1. Every file is read and parsed concurrently with TypedConfig, one task per file.
+// 2. The referenced paths are de-duplicated and each one is checked once, also concurrently.
+// 3. Each config is validated against the precomputed existence results.
+// Startup then costs roughly the slowest single read instead of the sum of all of them.
+public class ConfigBatchValidator {
+
+    // Upper bound on threads; the tasks are I/O bound, so this is well above the core count
+    static final int MAX_THREADS = 64;
+
+    // Outcome for one config file
+    static final class Result {
+        final Path file;
+        final List<String> errors;
+
+        Result(Path file, List<String> errors) {
+            this.file = file;
+            this.errors = errors;
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: ConfigBatchValidator <config file or directory> ...");
+            return;
+        }
+
+        try {
+            List<Path> files = expand(args);
+            long start = System.nanoTime();
+            List<Result> results = validate(files);
+            long elapsed = System.nanoTime() - start;
+
+            int invalid = 0;
+            for (Result result : results) {
+                if (!result.errors.isEmpty()) {
+                    invalid++;
+                    System.out.println(result.file + ":");
+                    for (String error : result.errors) {
+                        System.out.println("  " + error);
+                    }
+                }
+            }
+            System.out.printf("Validated %d config file(s) in %.3f s: %d valid, %d with problems%n",
+                results.size(), elapsed / 1e9, results.size() - invalid, invalid);
+
+        } catch (IOException e) {
+            System.out.println("IO Error: " + e.getMessage());
+        }
+    }
+
+    // Arguments may name files or directories; directories contribute their regular files
+    static List<Path> expand(String[] args) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            Path path = Path.of(arg);
+            if (Files.isDirectory(path)) {
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(path)) {
+                    for (Path entry : entries) {
+                        if (Files.isRegularFile(entry)) {
+                            files.add(entry);
+                        }
+                    }
+                }
+                continue;
+            }
+            files.add(path);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    // Returns one result per file, in the same order
+    static List<Result> validate(List<Path> files) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(files.size(), MAX_THREADS)));
+        try {
+            // Read and parse every file concurrently
+            List<Future<TypedConfig>> parsing = new ArrayList<>(files.size());
+            for (Path file : files) {
+                parsing.add(executor.submit(() -> TypedConfig.load(file)));
+            }
+            TypedConfig[] configs = new TypedConfig[files.size()];
+            String[] loadErrors = new String[files.size()];
+            Set<String> referenced = new HashSet<>();
+            for (int i = 0; i < configs.length; i++) {
+                try {
+                    configs[i] = parsing.get(i).get();
+                    String filePath = configs[i].getString("path", null);
+                    if (filePath != null) {
+                        referenced.add(filePath);
+                    }
+                } catch (ExecutionException e) {
+                    loadErrors[i] = describe(e.getCause());
+                }
+            }
+
+            // Check each referenced path once
+            Set<String> existing = existingPaths(referenced, executor);
+
+            List<Result> results = new ArrayList<>(files.size());
+            for (int i = 0; i < configs.length; i++) {
+                if (configs[i] == null) {
+                    results.add(new Result(files.get(i), List.of(loadErrors[i])));
+                    continue;
+                }
+                configs[i].validateChallengeConfig(existing::contains);
+                results.add(new Result(files.get(i), configs[i].errors()));
+            }
+            return results;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while validating configs", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Returns the subset of paths that exist, checking each one with Files.exists on the executor.
+    // Every path gets the same check as a single config would, whatever else is in the batch.
+    static Set<String> existingPaths(Set<String> paths, ExecutorService executor)
+            throws IOException, InterruptedException {
+        List<Future<String>> checks = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            checks.add(executor.submit(() -> exists(path) ? path : null));
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (Future<String> check : checks) {
+            try {
+                String path = check.get();
+                if (path != null) {
+                    existing.add(path);
+                }
+            } catch (ExecutionException e) {
+                throw new IOException(describe(e.getCause()), e.getCause());
+            }
+        }
+        return existing;
+    }
+
+    private static boolean exists(String path) {
+        try {
+            return Files.exists(Path.of(path));
+        } catch (InvalidPathException e) {
+            // Not a usable path on this platform, so nothing can exist there
+            return false;
+        }
+    }
+
+    private static String describe(Throwable cause) {
+        if (cause instanceof NoSuchFileException) {
+            return "The configuration file was not found.";
+        }
+        if (cause instanceof UncheckedIOException) {
+            cause = cause.getCause();
+        }
+        return "IO Error: " + cause.getMessage();
+    }
+}
@@ -0,0 +1,60 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigBatchValidatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path config(String name, int version, Path referenced) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, "version = " + version + "\npath = " + referenced + "\n");
+        return file;
+    }
+
+    @Test
+    void testReportsProblemsPerFileInOrder() throws IOException {
+        Path data = Files.createFile(tempDir.resolve("data.txt"));
+        List<Path> files = List.of(
+            config("a.txt", 3, data),
+            config("b.txt", 1, data),
+            config("c.txt", 3, tempDir.resolve("missing.txt")),
+            tempDir.resolve("absent.txt"));
+
+        List<ConfigBatchValidator.Result> results = ConfigBatchValidator.validate(files);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).errors.isEmpty());
+        assertEquals(List.of("Config version too old!"), results.get(1).errors);
+        assertEquals(List.of("The file at path " + tempDir.resolve("missing.txt") + " does not exist."),
+            results.get(2).errors);
+        assertEquals(List.of("The configuration file was not found."), results.get(3).errors);
+    }
+
+    @Test
+    void testResultDoesNotDependOnTheRestOfTheBatch() throws IOException {
+        Path shared = Files.createDirectory(tempDir.resolve("d"));
+        Path dangling = Files.createSymbolicLink(shared.resolve("dangling"), shared.resolve("nowhere"));
+        Path alone = config("c9.txt", 3, dangling);
+
+        List<Path> batch = new ArrayList<>();
+        batch.add(alone);
+        for (int i = 0; i < 7; i++) {
+            batch.add(config("c" + i + ".txt", 3, Files.createFile(shared.resolve("f" + i))));
+        }
+
+        List<String> aloneErrors = ConfigBatchValidator.validate(List.of(alone)).get(0).errors;
+        List<String> batchErrors = ConfigBatchValidator.validate(batch).get(0).errors;
+
+        assertEquals(1, aloneErrors.size());
+        assertEquals(aloneErrors, batchErrors);
+    }
+}
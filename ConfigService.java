@@ -0,0 +1,159 @@
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+
+// Serves the config read by Chapter1_Challenge_1_4 from memory.
+// The file is parsed and validated once, and a background thread reloads it only when the
+// WatchService reports a change and the contents differ from the last load. Each reload is
+// validated the same way as the first load.
+// Readers get the current Config with one volatile read and never wait for a reload. If a
+// reload fails, the last good config stays in place and the error is kept for inspection.
+public class ConfigService implements Closeable {
+
+    private final Path configFile;
+    private final WatchService watcher;
+    private final Thread watchThread;
+
+    private volatile Chapter1_Challenge_1_4.Config current;
+    private volatile Exception lastReloadError;
+    private volatile long reloads;
+
+    // Contents behind current. A save often raises several events, and truncating the file
+    // first can show it empty for a moment; only contents that differ count as a reload.
+    private byte[] loadedBytes;
+
+    public ConfigService(Path configFile) throws IOException,
+            Chapter1_Challenge_1_4.InvalidConfigVersionException, Chapter1_Challenge_1_4.ConfigFormatException {
+        this.configFile = configFile.toAbsolutePath();
+
+        // Watch before the first load, so an edit made while it runs still raises an event
+        this.watcher = FileSystems.getDefault().newWatchService();
+        try {
+            this.configFile.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+            this.current = load(Files.readAllBytes(this.configFile));
+        } catch (IOException | Chapter1_Challenge_1_4.InvalidConfigVersionException
+                 | Chapter1_Challenge_1_4.ConfigFormatException e) {
+            watcher.close();
+            throw e;
+        }
+        this.watchThread = new Thread(this::watch, "config-watcher");
+        this.watchThread.setDaemon(true);
+        this.watchThread.start();
+    }
+
+    public static void main(String[] args) {
+        Path path = Path.of(args.length > 0 ? args[0] : "config.txt");
+        try (ConfigService service = new ConfigService(path)) {
+            print(service.get());
+            System.out.println("Watching " + path + " for changes (Ctrl+C to stop)...");
+
+            long seen = 0;
+            Exception seenError = null;
+            while (true) {
+                Thread.sleep(500);
+                if (service.reloads() != seen) {
+                    seen = service.reloads();
+                    print(service.get());
+                }
+                if (service.lastReloadError() != seenError) {
+                    seenError = service.lastReloadError();
+                    if (seenError != null) {
+                        System.out.println("Reload rejected, keeping previous config: " + seenError.getMessage());
+                    }
+                }
+            }
+        } catch (Chapter1_Challenge_1_4.InvalidConfigVersionException | Chapter1_Challenge_1_4.ConfigFormatException e) {
+            System.out.println("Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("IO Error: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void print(Chapter1_Challenge_1_4.Config config) {
+        System.out.println("Config version " + config.version + " -> " + config.filePath);
+    }
+
+    // The current config; never blocks
+    public Chapter1_Challenge_1_4.Config get() {
+        return current;
+    }
+
+    // Why the most recent reload was rejected, or null if it succeeded
+    public Exception lastReloadError() {
+        return lastReloadError;
+    }
+
+    // Number of successful reloads since the initial load
+    public long reloads() {
+        return reloads;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watcher.close();
+        watchThread.interrupt();
+    }
+
+    private Chapter1_Challenge_1_4.Config load(byte[] bytes) throws IOException,
+            Chapter1_Challenge_1_4.InvalidConfigVersionException, Chapter1_Challenge_1_4.ConfigFormatException {
+        Chapter1_Challenge_1_4.Config config;
+        try (BufferedReader reader = new BufferedReader(new StringReader(new String(bytes, StandardCharsets.UTF_8)))) {
+            config = Chapter1_Challenge_1_4.readConfig(reader);
+        }
+        loadedBytes = bytes;
+        return config;
+    }
+
+    private void watch() {
+        Path fileName = configFile.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    reload();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    private void reload() {
+        try {
+            byte[] bytes = Files.readAllBytes(configFile);
+            if (Arrays.equals(bytes, loadedBytes)) {
+                // Back to the contents already loaded, e.g. after a rejected edit was undone
+                lastReloadError = null;
+                return;
+            }
+            current = load(bytes);
+            lastReloadError = null;
+            reloads++;
+        } catch (Exception e) {
+            lastReloadError = e;
+        }
+    }
+}
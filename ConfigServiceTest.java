@@ -0,0 +1,85 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path configFile;
+    private Path data;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        configFile = tempDir.resolve("config.txt");
+        data = Files.createFile(tempDir.resolve("data.txt"));
+    }
+
+    private void writeConfig(int version) throws IOException {
+        Files.writeString(configFile, version + "\n" + data + "\n");
+    }
+
+    // Waits for the watcher thread to pick up a change
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean(), "Timed out waiting for a reload");
+    }
+
+    @Test
+    void testReloadsWhenTheFileChanges() throws Exception {
+        writeConfig(2);
+        try (ConfigService service = new ConfigService(configFile)) {
+            assertEquals(2, service.get().version);
+            assertEquals(data.toString(), service.get().filePath);
+
+            // Saving the same contents again is not a reload
+            writeConfig(2);
+            writeConfig(3);
+            await(() -> service.get().version == 3);
+            Thread.sleep(200);
+
+            assertEquals(1, service.reloads());
+            assertNull(service.lastReloadError());
+        }
+    }
+
+    @Test
+    void testKeepsPreviousConfigWhenReloadIsRejected() throws Exception {
+        writeConfig(2);
+        try (ConfigService service = new ConfigService(configFile)) {
+            writeConfig(1);
+            // The file may be read while empty first, which is rejected with an IOException
+            await(() -> service.lastReloadError() instanceof Chapter1_Challenge_1_4.InvalidConfigVersionException);
+
+            assertEquals(2, service.get().version);
+            assertEquals(0, service.reloads());
+
+            // Undoing the edit clears the error without counting a reload
+            writeConfig(2);
+            await(() -> service.lastReloadError() == null);
+            assertEquals(0, service.reloads());
+
+            writeConfig(4);
+            await(() -> service.reloads() == 1);
+            assertEquals(4, service.get().version);
+            assertNull(service.lastReloadError());
+        }
+    }
+
+    @Test
+    void testRejectsInvalidInitialConfig() throws IOException {
+        writeConfig(1);
+        assertThrows(Chapter1_Challenge_1_4.InvalidConfigVersionException.class, () -> new ConfigService(configFile));
+    }
+}
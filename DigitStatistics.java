@@ -0,0 +1,232 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+// Full digit statistics over a ticket file: per-position digit histograms, the digit-sum
+// distribution and min/max/mean/variance of the digit averages.
+// Each worker fills its own accumulator and the accumulators are merged at the end. Only integer
+// counts are accumulated, and the derived statistics are computed from the merged counts in a
+// fixed order, so the report is identical for any level of parallelism.
+public class DigitStatistics implements ByteLines.LineHandler {
+
+    // Longest ticket (in digits) that is tracked; longer lines count as invalid
+    static final int MAX_DIGITS = 32;
+    static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    // positionCounts[p][d]: how often digit d appears at position p
+    final long[][] positionCounts = new long[MAX_DIGITS][10];
+    // sumCounts[n][s]: how many n-digit tickets have digit sum s
+    final long[][] sumCounts = new long[MAX_DIGITS + 1][9 * MAX_DIGITS + 1];
+    long tickets;
+    long invalid;
+
+    public static void main(String[] args) {
+        String path = null;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--parallelism")) {
+                    parallelism = Integer.parseInt(args[++i]);
+                } else {
+                    path = args[i];
+                }
+            }
+            if (path == null) {
+                throw new IllegalArgumentException("Usage: DigitStatistics <file> [--parallelism N]");
+            }
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive!");
+            }
+
+            long start = System.nanoTime();
+            DigitStatistics statistics = collect(Path.of(path), parallelism, DEFAULT_CHUNK_SIZE);
+            statistics.report();
+            System.out.printf("%nCollected in %.3f s with parallelism %d%n", (System.nanoTime() - start) / 1e9, parallelism);
+
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.out.println("Error: --parallelism needs an integer value.");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        } catch (IOException e) {
+            System.out.println("IO Error: " + e.getMessage());
+        }
+    }
+
+    // Splits the file at line boundaries and aggregates the chunks on a ForkJoinPool
+    static DigitStatistics collect(Path input, int parallelism, int chunkSize) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<long[]> ranges = new ArrayList<>();
+            for (long position = 0; position < size; ) {
+                long end = FileChunks.nextBoundary(channel, position + chunkSize, size);
+                ranges.add(new long[] {position, end});
+                position = end;
+            }
+
+            return pool.submit(() -> ranges.parallelStream().collect(
+                DigitStatistics::new,
+                (statistics, range) -> statistics.addRange(channel, range[0], range[1]),
+                DigitStatistics::merge)).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while collecting statistics", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void addRange(FileChannel channel, long start, long end) {
+        byte[] chunk = new byte[(int) (end - start)];
+        try {
+            FileChunks.readFully(channel, start, end, chunk);
+            ByteLines.forEach(chunk, 0, chunk.length, this);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Tickets are validated by LotteryAnalyzer.parseTicket, so both tools agree on what a ticket is
+    @Override
+    public void line(byte[] buffer, int start, int end) {
+        long parsed = LotteryAnalyzer.parseTicket(buffer, start, end);
+        if (parsed == LotteryAnalyzer.BLANK) {
+            return;
+        }
+        if (parsed == LotteryAnalyzer.INVALID || LotteryAnalyzer.digitsOf(parsed) > MAX_DIGITS) {
+            invalid++;
+            return;
+        }
+
+        int position = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit >= 0 && digit <= 9) {
+                positionCounts[position++][digit]++;
+            }
+        }
+        sumCounts[LotteryAnalyzer.digitsOf(parsed)][LotteryAnalyzer.sumOf(parsed)]++;
+        tickets++;
+    }
+
+    // Adds other's counts into this accumulator
+    DigitStatistics merge(DigitStatistics other) {
+        for (int p = 0; p < MAX_DIGITS; p++) {
+            for (int d = 0; d < 10; d++) {
+                positionCounts[p][d] += other.positionCounts[p][d];
+            }
+        }
+        for (int n = 0; n <= MAX_DIGITS; n++) {
+            for (int s = 0; s < sumCounts[n].length; s++) {
+                sumCounts[n][s] += other.sumCounts[n][s];
+            }
+        }
+        tickets += other.tickets;
+        invalid += other.invalid;
+        return this;
+    }
+
+    // Mean of the digit averages, summed in a fixed order
+    double meanAverage() {
+        double total = 0;
+        for (int n = 1; n <= MAX_DIGITS; n++) {
+            for (int s = 0; s < sumCounts[n].length; s++) {
+                if (sumCounts[n][s] > 0) {
+                    total += sumCounts[n][s] * ((double) s / n);
+                }
+            }
+        }
+        return tickets == 0 ? 0 : total / tickets;
+    }
+
+    // Population variance of the digit averages
+    double varianceOfAverages() {
+        double mean = meanAverage();
+        double total = 0;
+        for (int n = 1; n <= MAX_DIGITS; n++) {
+            for (int s = 0; s < sumCounts[n].length; s++) {
+                if (sumCounts[n][s] > 0) {
+                    double delta = (double) s / n - mean;
+                    total += sumCounts[n][s] * delta * delta;
+                }
+            }
+        }
+        return tickets == 0 ? 0 : total / tickets;
+    }
+
+    // {sum, digits} of the lowest (or highest) digit average seen, or null if there were no tickets
+    int[] extremeAverage(boolean highest) {
+        int[] best = null;
+        for (int n = 1; n <= MAX_DIGITS; n++) {
+            for (int s = 0; s < sumCounts[n].length; s++) {
+                if (sumCounts[n][s] == 0) {
+                    continue;
+                }
+                if (best == null) {
+                    best = new int[] {s, n};
+                    continue;
+                }
+                int cmp = TicketRanking.compareAverage(s, n, best[0], best[1]);
+                if (highest ? cmp > 0 : cmp < 0) {
+                    best[0] = s;
+                    best[1] = n;
+                }
+            }
+        }
+        return best;
+    }
+
+    void report() {
+        System.out.println("Tickets: " + tickets + " (" + invalid + " invalid)");
+        if (tickets == 0) {
+            return;
+        }
+
+        int[] min = extremeAverage(false);
+        int[] max = extremeAverage(true);
+        System.out.printf("Digit Average: min %.4f, max %.4f, mean %.6f, variance %.6f%n",
+            (double) min[0] / min[1], (double) max[0] / max[1], meanAverage(), varianceOfAverages());
+
+        System.out.println();
+        System.out.println("Digit-sum distribution (digits: sum=count ...):");
+        for (int n = 1; n <= MAX_DIGITS; n++) {
+            StringBuilder line = null;
+            for (int s = 0; s < sumCounts[n].length; s++) {
+                if (sumCounts[n][s] > 0) {
+                    if (line == null) {
+                        line = new StringBuilder().append(n).append(':');
+                    }
+                    line.append(' ').append(s).append('=').append(sumCounts[n][s]);
+                }
+            }
+            if (line != null) {
+                System.out.println(line);
+            }
+        }
+
+        System.out.println();
+        System.out.println("Per-position digit histogram (position: count of 0..9):");
+        for (int p = 0; p < MAX_DIGITS; p++) {
+            long seen = 0;
+            StringBuilder line = new StringBuilder().append(p + 1).append(':');
+            for (int d = 0; d < 10; d++) {
+                seen += positionCounts[p][d];
+                line.append(' ').append(positionCounts[p][d]);
+            }
+            if (seen > 0) {
+                System.out.println(line);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DigitStatisticsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String[] LINES = {
+        "12-34",
+        "  56-78\t",
+        "12 34",
+        "12-x4",
+        "--",
+        "",
+        "   "
+    };
+
+    @Test
+    void testAgreesWithLotteryAnalyzerOnWhatIsATicket() {
+        DigitStatistics statistics = new DigitStatistics();
+        long tickets = 0;
+        long invalid = 0;
+        for (String line : LINES) {
+            byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+            statistics.line(bytes, 0, bytes.length);
+            long parsed = LotteryAnalyzer.parseTicket(bytes, 0, bytes.length);
+            if (parsed == LotteryAnalyzer.INVALID) {
+                invalid++;
+            } else if (parsed != LotteryAnalyzer.BLANK) {
+                tickets++;
+            }
+        }
+
+        assertEquals(2, tickets);
+        assertEquals(3, invalid);
+        assertEquals(tickets, statistics.tickets);
+        assertEquals(invalid, statistics.invalid);
+    }
+
+    @Test
+    void testCountsDigitsByPositionAndSum() {
+        DigitStatistics statistics = new DigitStatistics();
+        for (String line : LINES) {
+            byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+            statistics.line(bytes, 0, bytes.length);
+        }
+
+        assertEquals(1, statistics.positionCounts[0][1]);
+        assertEquals(1, statistics.positionCounts[0][5]);
+        assertEquals(1, statistics.positionCounts[3][8]);
+        assertEquals(1, statistics.sumCounts[4][10]);
+        assertEquals(1, statistics.sumCounts[4][26]);
+    }
+
+    @Test
+    void testSameResultForAnyParallelism() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            text.append(String.format("%02d-%02d-%02d%n", i % 97, i % 89, i % 83));
+            if (i % 50 == 0) {
+                text.append("1 2\n");
+            }
+        }
+        Path file = tempDir.resolve("tickets.txt");
+        Files.writeString(file, text);
+
+        DigitStatistics single = DigitStatistics.collect(file, 1, 1 << 20);
+        DigitStatistics parallel = DigitStatistics.collect(file, 4, 1 << 10);
+
+        assertEquals(5_000, single.tickets);
+        assertEquals(100, single.invalid);
+        assertEquals(single.tickets, parallel.tickets);
+        assertEquals(single.invalid, parallel.invalid);
+        assertArrayEquals(single.positionCounts, parallel.positionCounts);
+        assertArrayEquals(single.sumCounts, parallel.sumCounts);
+        assertEquals(single.meanAverage(), parallel.meanAverage());
+    }
+}
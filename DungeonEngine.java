@@ -0,0 +1,220 @@
+import java.util.random.RandomGenerator;
+
+// Data-driven rules for the dungeon from Chapter1_Challenge_1_3.
+// The room count, event weights and event effects come from Rules. The game state is packed
+// into a single long (health and next room), so stepping through a room allocates nothing.
+// Everything the player would see is reported to a Listener with primitive arguments; batch
+// runs pass NO_OP and never build a message.
+public final class DungeonEngine {
+
+    // Room events
+    public static final int TRAP = 1;
+    public static final int HEALING_POTION = 2;
+    public static final int MONSTER = 3;
+
+    // Configurable rules; DEFAULT matches the original console game
+    public static final class Rules {
+        public static final Rules DEFAULT = new Rules(5, 100, 100, new int[] {1, 1, 1}, 20, 15, 5, 0);
+
+        final int rooms;
+        final int startHealth;
+        final int maxHealth;
+        // Relative weights of TRAP, HEALING_POTION and MONSTER
+        final int[] eventWeights;
+        final int totalWeight;
+        final int trapDamage;
+        final int potionHeal;
+        final int monsterNumbers;
+        final int wrongGuessDamage;
+
+        public Rules(int rooms, int startHealth, int maxHealth, int[] eventWeights,
+                     int trapDamage, int potionHeal, int monsterNumbers, int wrongGuessDamage) {
+            if (rooms < 1 || rooms > 0xFFFF) {
+                throw new IllegalArgumentException("Room count must be between 1 and 65535!");
+            }
+            if (startHealth < 1 || startHealth > maxHealth) {
+                throw new IllegalArgumentException("Start health must be between 1 and the maximum health!");
+            }
+            if (eventWeights.length != 3) {
+                throw new IllegalArgumentException("Expected weights for trap, potion and monster!");
+            }
+            int total = 0;
+            for (int weight : eventWeights) {
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Event weights cannot be negative!");
+                }
+                total += weight;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("At least one event weight must be positive!");
+            }
+            if (monsterNumbers < 1 || monsterNumbers > 30) {
+                throw new IllegalArgumentException("Monster numbers must be between 1 and 30!");
+            }
+            // A negative trap or wrong-guess damage would heal past the maximum health
+            if (trapDamage < 0 || potionHeal < 0 || wrongGuessDamage < 0) {
+                throw new IllegalArgumentException("Trap damage, potion healing and wrong-guess damage cannot be negative!");
+            }
+
+            this.rooms = rooms;
+            this.startHealth = startHealth;
+            this.maxHealth = maxHealth;
+            this.eventWeights = eventWeights.clone();
+            this.totalWeight = total;
+            this.trapDamage = trapDamage;
+            this.potionHeal = potionHeal;
+            this.monsterNumbers = monsterNumbers;
+            this.wrongGuessDamage = wrongGuessDamage;
+        }
+
+        public int getRooms() {
+            return rooms;
+        }
+
+        public int getMaxHealth() {
+            return maxHealth;
+        }
+
+        public int getMonsterNumbers() {
+            return monsterNumbers;
+        }
+    }
+
+    // Picks the next guess (1 to monsterNumbers) for a monster; tried has bit n set once n was guessed
+    public interface Guesser {
+        int nextGuess(int attempt, int tried, RandomGenerator rng);
+    }
+
+    // Receives game events; every method does nothing by default
+    public interface Listener {
+        default void roomEntered(int room) {
+        }
+
+        default void trap(int room, int health) {
+        }
+
+        default void potion(int room, int oldHealth, int health) {
+        }
+
+        default void monsterAppeared(int room, int monsterNumbers) {
+        }
+
+        default void wrongGuess(int room, int guess, int health) {
+        }
+
+        default void monsterDefeated(int room, int guesses) {
+        }
+
+        default void defeated(int room) {
+        }
+    }
+
+    public static final Listener NO_OP = new Listener() {
+    };
+
+    private final Rules rules;
+
+    public DungeonEngine(Rules rules) {
+        this.rules = rules;
+    }
+
+    public Rules rules() {
+        return rules;
+    }
+
+    // State before the first room
+    public long start() {
+        return pack(rules.startHealth, 1);
+    }
+
+    public static long pack(int health, int room) {
+        return ((long) room << 32) | (health & 0xFFFFFFFFL);
+    }
+
+    public static int health(long state) {
+        return (int) state;
+    }
+
+    // The next room to enter
+    public static int room(long state) {
+        return (int) (state >>> 32);
+    }
+
+    public boolean isOver(long state) {
+        return health(state) <= 0 || room(state) > rules.rooms;
+    }
+
+    public boolean survived(long state) {
+        return health(state) > 0;
+    }
+
+    // Plays the next room and returns the new state
+    public long step(long state, RandomGenerator rng, Guesser guesser, Listener listener) {
+        int health = health(state);
+        int room = room(state);
+        listener.roomEntered(room);
+
+        switch (nextEvent(rng)) {
+            case TRAP:
+                health -= rules.trapDamage;
+                listener.trap(room, health);
+                if (health <= 0) {
+                    listener.defeated(room);
+                }
+                break;
+
+            case HEALING_POTION:
+                int oldHealth = health;
+                health = Math.min(health + rules.potionHeal, rules.maxHealth);
+                listener.potion(room, oldHealth, health);
+                break;
+
+            default:
+                health = fightMonster(room, health, rng, guesser, listener);
+                break;
+        }
+        return pack(health, room + 1);
+    }
+
+    // Plays every remaining room and returns the final state
+    public long play(long state, RandomGenerator rng, Guesser guesser, Listener listener) {
+        while (!isOver(state)) {
+            state = step(state, rng, guesser, listener);
+        }
+        return state;
+    }
+
+    private int nextEvent(RandomGenerator rng) {
+        int pick = rng.nextInt(rules.totalWeight);
+        int[] weights = rules.eventWeights;
+        for (int i = 0; i < weights.length - 1; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i + 1;
+            }
+        }
+        return weights.length;
+    }
+
+    private int fightMonster(int room, int health, RandomGenerator rng, Guesser guesser, Listener listener) {
+        int monsterNumber = rng.nextInt(rules.monsterNumbers) + 1;
+        listener.monsterAppeared(room, rules.monsterNumbers);
+
+        int tried = 0;
+        int attempt = 0;
+        while (true) {
+            int guess = guesser.nextGuess(attempt++, tried, rng);
+            tried |= 1 << guess;
+            if (guess == monsterNumber) {
+                listener.monsterDefeated(room, attempt);
+                return health;
+            }
+            health -= rules.wrongGuessDamage;
+            listener.wrongGuess(room, guess, health);
+            if (health <= 0) {
+                listener.defeated(room);
+                return health;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DungeonEngineTest {
+
+    private static DungeonEngine.Rules rules(int trapDamage, int potionHeal, int wrongGuessDamage) {
+        return new DungeonEngine.Rules(5, 100, 100, new int[] {1, 1, 1}, trapDamage, potionHeal, 5, wrongGuessDamage);
+    }
+
+    @Test
+    void testRejectsNegativeEffects() {
+        assertThrows(IllegalArgumentException.class, () -> rules(-20, 15, 0));
+        assertThrows(IllegalArgumentException.class, () -> rules(20, -15, 0));
+        assertThrows(IllegalArgumentException.class, () -> rules(20, 15, -5));
+    }
+
+    @Test
+    void testRejectsInvalidLayout() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new DungeonEngine.Rules(0, 100, 100, new int[] {1, 1, 1}, 20, 15, 5, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new DungeonEngine.Rules(5, 101, 100, new int[] {1, 1, 1}, 20, 15, 5, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new DungeonEngine.Rules(5, 100, 100, new int[] {0, 0, 0}, 20, 15, 5, 0));
+    }
+
+    @Test
+    void testHealthNeverExceedsMaximum() {
+        DungeonEngine engine = new DungeonEngine(rules(30, 40, 10));
+        DungeonEngine.Guesser guesser = DungeonSimulator.Strategy.RANDOM.forNumbers(5);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 10_000; i++) {
+            int health = DungeonEngine.health(engine.play(engine.start(), random, guesser, DungeonEngine.NO_OP));
+            assertTrue(health <= 100, "health " + health);
+        }
+    }
+
+    @Test
+    void testEveryRunLandsInTheHealthDistribution() {
+        DungeonSimulator.Result result = DungeonSimulator.simulate(rules(30, 40, 10),
+            DungeonSimulator.Strategy.RANDOM, 10_000, 42, 2);
+
+        long total = 0;
+        for (long count : result.healthCounts) {
+            total += count;
+        }
+        assertEquals(10_000, total);
+    }
+
+    @Test
+    void testSameSeedSameResult() {
+        DungeonEngine.Rules rules = DungeonEngine.Rules.DEFAULT;
+        DungeonSimulator.Result first = DungeonSimulator.simulate(rules, DungeonSimulator.Strategy.ELIMINATE, 20_000, 7, 1);
+        DungeonSimulator.Result second = DungeonSimulator.simulate(rules, DungeonSimulator.Strategy.ELIMINATE, 20_000, 7, 4);
+
+        assertEquals(first.survived, second.survived);
+        assertArrayEquals(first.healthCounts, second.healthCounts);
+    }
+}
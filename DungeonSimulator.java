@@ -0,0 +1,211 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Headless Monte Carlo runs of the dungeon from Chapter1_Challenge_1_3, played by DungeonEngine.
+// Monster guesses come from a pluggable strategy instead of the console. The runs are cut into
+// a fixed number of slices, and each slice gets its own SplittableRandom split from the seed, so
+// results depend only on the seed and run count, not on how many threads are used.
+public class DungeonSimulator {
+
+    static final int SLICES = 256;
+
+    // Guessing strategies; each one only tries numbers between 1 and numbers
+    enum Strategy {
+        // Guesses at random, possibly repeating a wrong guess
+        RANDOM {
+            @Override
+            DungeonEngine.Guesser forNumbers(int numbers) {
+                return (attempt, tried, rng) -> rng.nextInt(numbers) + 1;
+            }
+        },
+        // Tries 1, 2, 3, ... in order
+        SEQUENTIAL {
+            @Override
+            DungeonEngine.Guesser forNumbers(int numbers) {
+                return (attempt, tried, rng) -> attempt + 1;
+            }
+        },
+        // Guesses at random among the numbers not tried yet
+        ELIMINATE {
+            @Override
+            DungeonEngine.Guesser forNumbers(int numbers) {
+                return (attempt, tried, rng) -> {
+                    int skip = rng.nextInt(numbers - Integer.bitCount(tried));
+                    for (int n = 1; n <= numbers; n++) {
+                        if ((tried & (1 << n)) == 0 && skip-- == 0) {
+                            return n;
+                        }
+                    }
+                    throw new IllegalStateException("Every number was already tried");
+                };
+            }
+        };
+
+        abstract DungeonEngine.Guesser forNumbers(int numbers);
+    }
+
+    // Mergeable totals for a batch of playthroughs; counts monster fights as a listener
+    static final class Result implements DungeonEngine.Listener {
+        long runs;
+        long survived;
+        long monsters;
+        long guesses;
+        // healthCounts[h]: playthroughs that ended with health h (0 for defeats)
+        final long[] healthCounts;
+
+        Result(int maxHealth) {
+            healthCounts = new long[maxHealth + 1];
+        }
+
+        @Override
+        public void monsterDefeated(int room, int guessCount) {
+            monsters++;
+            guesses += guessCount;
+        }
+
+        void finished(DungeonEngine engine, long state) {
+            int health = DungeonEngine.health(state);
+            runs++;
+            if (engine.survived(state)) {
+                survived++;
+            }
+            healthCounts[Math.max(health, 0)]++;
+        }
+
+        Result merge(Result other) {
+            runs += other.runs;
+            survived += other.survived;
+            monsters += other.monsters;
+            guesses += other.guesses;
+            for (int h = 0; h < healthCounts.length; h++) {
+                healthCounts[h] += other.healthCounts[h];
+            }
+            return this;
+        }
+    }
+
+    public static void main(String[] args) {
+        long runs = 1_000_000;
+        long seed = 42;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        List<Strategy> strategies = new ArrayList<>(List.of(Strategy.values()));
+        DungeonEngine.Rules defaults = DungeonEngine.Rules.DEFAULT;
+        int rooms = defaults.rooms;
+        int[] weights = defaults.eventWeights;
+        int trapDamage = defaults.trapDamage;
+        int potionHeal = defaults.potionHeal;
+        int wrongGuessDamage = defaults.wrongGuessDamage;
+        DungeonEngine.Rules rules;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--runs":
+                        runs = Long.parseLong(args[++i]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--parallelism":
+                        parallelism = Integer.parseInt(args[++i]);
+                        break;
+                    case "--strategy":
+                        strategies = List.of(Strategy.valueOf(args[++i].toUpperCase()));
+                        break;
+                    case "--rooms":
+                        rooms = Integer.parseInt(args[++i]);
+                        break;
+                    case "--weights":
+                        String[] parts = args[++i].split(",");
+                        weights = new int[parts.length];
+                        for (int w = 0; w < parts.length; w++) {
+                            weights[w] = Integer.parseInt(parts[w].trim());
+                        }
+                        break;
+                    case "--trap":
+                        trapDamage = Integer.parseInt(args[++i]);
+                        break;
+                    case "--potion":
+                        potionHeal = Integer.parseInt(args[++i]);
+                        break;
+                    case "--wrong-guess-damage":
+                        wrongGuessDamage = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (runs < 1 || parallelism < 1) {
+                throw new IllegalArgumentException("Runs and parallelism must be positive!");
+            }
+            rules = new DungeonEngine.Rules(rooms, defaults.startHealth, defaults.maxHealth, weights,
+                trapDamage, potionHeal, defaults.monsterNumbers, wrongGuessDamage);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.out.println("Error: numeric options need integer values.");
+            return;
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+            return;
+        }
+
+        for (Strategy strategy : strategies) {
+            long start = System.nanoTime();
+            Result result = simulate(rules, strategy, runs, seed, parallelism);
+            report(strategy, result, System.nanoTime() - start);
+        }
+    }
+
+    static Result simulate(DungeonEngine.Rules rules, Strategy strategy, long runs, long seed, int parallelism) {
+        DungeonEngine engine = new DungeonEngine(rules);
+        DungeonEngine.Guesser guesser = strategy.forNumbers(rules.monsterNumbers);
+
+        // Split the generators up front, in order, so each slice sees the same numbers on every run
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] rngs = new SplittableRandom[SLICES];
+        for (int s = 0; s < SLICES; s++) {
+            rngs[s] = root.split();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> IntStream.range(0, SLICES).parallel()
+                .mapToObj(s -> {
+                    Result result = new Result(rules.maxHealth);
+                    long sliceRuns = runs / SLICES + (s < runs % SLICES ? 1 : 0);
+                    for (long r = 0; r < sliceRuns; r++) {
+                        result.finished(engine, engine.play(engine.start(), rngs[s], guesser, result));
+                    }
+                    return result;
+                })
+                .reduce(Result::merge)
+                .orElseGet(() -> new Result(rules.maxHealth))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    static void report(Strategy strategy, Result result, long elapsedNanos) {
+        System.out.println("Strategy: " + strategy.name().toLowerCase());
+        System.out.printf("Playthroughs: %d in %.3f s (%.0f runs/sec)%n",
+            result.runs, elapsedNanos / 1e9, result.runs / (elapsedNanos / 1e9));
+        System.out.printf("Survival rate: %.4f%%%n", 100.0 * result.survived / result.runs);
+        System.out.printf("Mean guesses per monster: %.4f%n",
+            result.monsters == 0 ? 0.0 : (double) result.guesses / result.monsters);
+        System.out.println("Final health distribution:");
+        for (int h = result.healthCounts.length - 1; h >= 0; h--) {
+            if (result.healthCounts[h] > 0) {
+                System.out.printf("  %3d: %6.3f%%%n", h, 100.0 * result.healthCounts[h] / result.runs);
+            }
+        }
+        System.out.println();
+    }
+}
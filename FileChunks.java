@@ -0,0 +1,54 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+// Helpers for splitting a line-oriented file into byte ranges that start and end on line boundaries
+public final class FileChunks {
+
+    private static final int SCAN_BUFFER_SIZE = 4096;
+
+    private FileChunks() {
+    }
+
+    // Returns the position just after the first '\n' at or after target,
+    // or size if there is no newline before the end of the file.
+    public static long nextBoundary(FileChannel channel, long target, long size) throws IOException {
+        if (target <= 0) {
+            return 0;
+        }
+        if (target >= size) {
+            return size;
+        }
+
+        // Start one byte early so a range never begins in the middle of a line
+        long position = target - 1;
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    // Reads channel[start, end) fully into buffer starting at offset 0
+    public static void readFully(FileChannel channel, long start, long end, byte[] buffer) throws IOException {
+        ByteBuffer target = ByteBuffer.wrap(buffer, 0, (int) (end - start));
+        long position = start;
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file at position " + position);
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+// Per-frame timings of an animation loop: update time, paint time and sleep overshoot (how much
+// later than requested the thread woke up). The last capacity frames are kept in ring buffers.
+// One thread records and any thread can take a snapshot. The writer fills the slots first and
+// then publishes the new frame count with a volatile write, so neither side takes a lock. A
+// reader copies the slots and then reads the count again, and drops any slot the writer may
+// have overwritten during the copy.
+public class FrameStats {
+
+    private final int mask;
+    private final long[] updateNanos;
+    private final long[] paintNanos;
+    private final long[] overshootNanos;
+    private volatile long frames;
+
+    // capacity is rounded up to a power of two. The oldest slot may be rewritten while a snapshot
+    // copies it, so a snapshot covers at most capacity - 1 frames.
+    public FrameStats(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2!");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        updateNanos = new long[size];
+        paintNanos = new long[size];
+        overshootNanos = new long[size];
+    }
+
+    // Records one frame; must only be called from a single thread
+    public void record(long update, long paint, long overshoot) {
+        long frame = frames;
+        int slot = (int) frame & mask;
+        updateNanos[slot] = update;
+        paintNanos[slot] = paint;
+        overshootNanos[slot] = overshoot;
+        frames = frame + 1;
+    }
+
+    // Frames recorded since creation, including those no longer in the window
+    public long frames() {
+        return frames;
+    }
+
+    // Percentiles of the frames currently in the window. Frames whose update and paint
+    // together took longer than budgetNanos are counted as over budget.
+    public Snapshot snapshot(long budgetNanos) {
+        int capacity = mask + 1;
+        long end = frames;
+        long start = Math.max(0, end - capacity);
+        int count = (int) (end - start);
+        long[] update = new long[count];
+        long[] paint = new long[count];
+        long[] overshoot = new long[count];
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (start + i) & mask;
+            update[i] = updateNanos[slot];
+            paint[i] = paintNanos[slot];
+            overshoot[i] = overshootNanos[slot];
+        }
+
+        // Slots below this frame may have been rewritten while they were copied. The fence keeps
+        // the copy above from being reordered after the second read of frames.
+        VarHandle.loadLoadFence();
+        long firstSafe = frames - capacity + 1;
+        int skip = (int) Math.max(0, Math.min(count, firstSafe - start));
+        if (skip > 0) {
+            count -= skip;
+            update = Arrays.copyOfRange(update, skip, skip + count);
+            paint = Arrays.copyOfRange(paint, skip, skip + count);
+            overshoot = Arrays.copyOfRange(overshoot, skip, skip + count);
+        }
+
+        int overBudget = 0;
+        for (int i = 0; i < count; i++) {
+            if (update[i] + paint[i] > budgetNanos) {
+                overBudget++;
+            }
+        }
+        return new Snapshot(count, overBudget, summarize(update), summarize(paint), summarize(overshoot));
+    }
+
+    private static Summary summarize(long[] samples) {
+        if (samples.length == 0) {
+            return new Summary(0, 0, 0);
+        }
+        Arrays.sort(samples);
+        return new Summary(percentile(samples, 50), percentile(samples, 99), samples[samples.length - 1]);
+    }
+
+    // Nearest-rank percentile of sorted samples
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    public static class Summary {
+        public final long p50;
+        public final long p99;
+        public final long max;
+
+        Summary(long p50, long p99, long max) {
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p50 %.2f ms, p99 %.2f ms, max %.2f ms", p50 / 1e6, p99 / 1e6, max / 1e6);
+        }
+    }
+
+    public static class Snapshot {
+        public final int frames;
+        public final int overBudget;
+        public final Summary update;
+        public final Summary paint;
+        public final Summary overshoot;
+
+        Snapshot(int frames, int overBudget, Summary update, Summary paint, Summary overshoot) {
+            this.frames = frames;
+            this.overBudget = overBudget;
+            this.update = update;
+            this.paint = paint;
+            this.overshoot = overshoot;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameStatsTest {
+
+    @Test
+    void testEmptySnapshot() {
+        FrameStats.Snapshot snapshot = new FrameStats(8).snapshot(100);
+
+        assertEquals(0, snapshot.frames);
+        assertEquals(0, snapshot.update.max);
+    }
+
+    @Test
+    void testPercentilesAndBudget() {
+        FrameStats stats = new FrameStats(128);
+        for (int i = 1; i <= 100; i++) {
+            stats.record(i, 2L * i, 0);
+        }
+        FrameStats.Snapshot snapshot = stats.snapshot(150);
+
+        assertEquals(100, snapshot.frames);
+        assertEquals(50, snapshot.update.p50);
+        assertEquals(99, snapshot.update.p99);
+        assertEquals(100, snapshot.update.max);
+        assertEquals(200, snapshot.paint.max);
+        // update + paint = 3i exceeds 150 for i = 51..100
+        assertEquals(50, snapshot.overBudget);
+    }
+
+    @Test
+    void testWraparoundKeepsMostRecentFrames() {
+        FrameStats stats = new FrameStats(4);
+        for (int i = 1; i <= 10; i++) {
+            stats.record(i, 0, i);
+        }
+        FrameStats.Snapshot snapshot = stats.snapshot(Long.MAX_VALUE);
+
+        assertEquals(10, stats.frames());
+        // Frames 8, 9 and 10; the oldest slot is left out in case it is being rewritten
+        assertEquals(3, snapshot.frames);
+        assertEquals(9, snapshot.update.p50);
+        assertEquals(10, snapshot.overshoot.max);
+    }
+
+    @Test
+    void testCapacityRoundsUpToPowerOfTwo() {
+        FrameStats stats = new FrameStats(5);
+        for (int i = 1; i <= 20; i++) {
+            stats.record(i, 0, 0);
+        }
+
+        assertEquals(7, stats.snapshot(Long.MAX_VALUE).frames);
+    }
+
+    @Test
+    void testRejectsCapacityBelowTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new FrameStats(1));
+    }
+
+    @Test
+    void testConcurrentSnapshotsOnlySeeRecordedValues() throws InterruptedException {
+        FrameStats stats = new FrameStats(64);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2_000_000; i++) {
+                // Paint is always twice the update time, so a torn slot would break the pairing
+                stats.record(i % 100, 2L * (i % 100), 0);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            FrameStats.Snapshot snapshot = stats.snapshot(Long.MAX_VALUE);
+            assertTrue(snapshot.update.max <= 99);
+            assertEquals(2 * snapshot.update.max, snapshot.paint.max);
+        }
+        writer.join();
+    }
+}
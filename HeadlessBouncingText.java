@@ -0,0 +1,183 @@
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.imageio.ImageIO;
+
+// Runs BouncingTextScene without a display and renders each frame into a BufferedImage:
+//
+//   java -Djava.awt.headless=true HeadlessBouncingText [--frames n] [--width w] [--height h]
+//                                                      [--out dir] [--format png]
+//
+// Without --out it only reports the rendering throughput. With --out every frame is also written
+// to dir/frame-000000.png and so on. Encoding runs on a background thread. The renderer draws into
+// a small pool of images and gets each one back once it has been written, so memory stays bounded
+// and a slow disk slows the renderer down instead of queueing frames without limit.
+public class HeadlessBouncingText {
+
+    static final int DEFAULT_FRAMES = 600;
+    static final int UPDATES_PER_SECOND = 60;
+    // Images in flight between the renderer and the encoder
+    static final int POOL_SIZE = 4;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        int frames = DEFAULT_FRAMES;
+        int width = 3000;
+        int height = 900;
+        File outDir = null;
+        String format = "png";
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--frames":
+                        frames = Integer.parseInt(args[++i]);
+                        break;
+                    case "--width":
+                        width = Integer.parseInt(args[++i]);
+                        break;
+                    case "--height":
+                        height = Integer.parseInt(args[++i]);
+                        break;
+                    case "--out":
+                        outDir = new File(args[++i]);
+                        break;
+                    case "--format":
+                        format = args[++i];
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (frames < 1 || width < 1 || height < 1) {
+                throw new IllegalArgumentException("Frames, width and height must be positive");
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            System.out.println("Error: missing value for " + args[args.length - 1]);
+            return;
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+            return;
+        }
+
+        BouncingTextScene scene = BouncingTextScene.headless("KANU TECHOME",
+            new Font("Times New Roman", Font.BOLD, 40));
+        try {
+            long start = System.nanoTime();
+            if (outDir == null) {
+                render(scene, frames, width, height);
+            } else {
+                export(scene, frames, width, height, outDir, format);
+            }
+            long nanos = System.nanoTime() - start;
+            System.out.printf("Rendered %d frames of %dx%d in %.2f s (%.1f frames/s)%n",
+                frames, width, height, nanos / 1e9, frames * 1e9 / nanos);
+        } catch (IOException e) {
+            System.out.println("IO Error: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Renders frames into one reused image, for measuring drawing alone
+    static void render(BouncingTextScene scene, int frames, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            for (int i = 0; i < frames; i++) {
+                scene.advance(1.0 / UPDATES_PER_SECOND, width, height);
+                scene.draw(g, width, height);
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    // Renders frames and hands them to an encoder thread that writes them to outDir
+    static void export(BouncingTextScene scene, int frames, int width, int height, File outDir, String format)
+            throws IOException, InterruptedException {
+        if (!outDir.isDirectory() && !outDir.mkdirs()) {
+            throw new IOException("Cannot create output directory " + outDir);
+        }
+        if (!ImageIO.getImageWritersByFormatName(format).hasNext()) {
+            throw new IOException("No image writer for format " + format);
+        }
+
+        BlockingQueue<BufferedImage> free = new ArrayBlockingQueue<>(POOL_SIZE);
+        BlockingQueue<BufferedImage> pending = new ArrayBlockingQueue<>(POOL_SIZE + 1);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            free.add(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+        }
+        // Sent after the last frame; identity marks the end of the stream
+        BufferedImage endOfFrames = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+
+        Encoder encoder = new Encoder(pending, free, endOfFrames, outDir, format);
+        Thread encoderThread = new Thread(encoder, "frame-encoder");
+        encoderThread.start();
+        try {
+            for (int i = 0; i < frames && encoder.error == null; i++) {
+                scene.advance(1.0 / UPDATES_PER_SECOND, width, height);
+                BufferedImage image = free.take();
+                Graphics2D g = image.createGraphics();
+                try {
+                    scene.draw(g, width, height);
+                } finally {
+                    g.dispose();
+                }
+                pending.put(image);
+            }
+        } finally {
+            pending.put(endOfFrames);
+            encoderThread.join();
+        }
+        if (encoder.error != null) {
+            throw encoder.error;
+        }
+    }
+
+    private static final class Encoder implements Runnable {
+        private final BlockingQueue<BufferedImage> pending;
+        private final BlockingQueue<BufferedImage> free;
+        private final BufferedImage endOfFrames;
+        private final File outDir;
+        private final String format;
+        volatile IOException error;
+
+        Encoder(BlockingQueue<BufferedImage> pending, BlockingQueue<BufferedImage> free,
+                BufferedImage endOfFrames, File outDir, String format) {
+            this.pending = pending;
+            this.free = free;
+            this.endOfFrames = endOfFrames;
+            this.outDir = outDir;
+            this.format = format;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int frame = 0; ; frame++) {
+                    BufferedImage image = pending.take();
+                    if (image == endOfFrames) {
+                        return;
+                    }
+                    try {
+                        if (error == null) {
+                            File file = new File(outDir, String.format("frame-%06d.%s", frame, format));
+                            ImageIO.write(image, format, file);
+                        }
+                    } catch (IOException e) {
+                        // Keep draining so the renderer is never left waiting for a free image
+                        error = e;
+                    }
+                    free.put(image);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
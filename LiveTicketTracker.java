@@ -0,0 +1,282 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Tracks the highest-average winning number and the top-K ranking while tickets arrive,
+// either by tailing a growing file or from a local socket (one connection at a time).
+// A single consumer thread updates the ranking in O(log K) per ticket; after each read it
+// publishes an immutable snapshot, so readers on any thread get the current answer with
+// one volatile read and never block the consumer.
+public class LiveTicketTracker implements ByteLines.LineHandler {
+
+    static final long POLL_MILLIS = 200;
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    // Immutable view of the ranking at one point in time
+    public static final class Snapshot {
+        final TicketRanking.Ticket winner;
+        final List<TicketRanking.Ticket> ranking;
+        final long tickets;
+        final long invalid;
+
+        Snapshot(TicketRanking.Ticket winner, List<TicketRanking.Ticket> ranking, long tickets, long invalid) {
+            this.winner = winner;
+            this.ranking = ranking;
+            this.tickets = tickets;
+            this.invalid = invalid;
+        }
+
+        public TicketRanking.Ticket getWinner() {
+            return winner;
+        }
+
+        public List<TicketRanking.Ticket> getRanking() {
+            return ranking;
+        }
+
+        public long getTickets() {
+            return tickets;
+        }
+
+        public long getInvalid() {
+            return invalid;
+        }
+    }
+
+    private final TicketRanking ranking;
+    private long tickets;
+    private long invalid;
+    // True when the ranking changed since the last published snapshot
+    private boolean dirty;
+    private volatile Snapshot current = new Snapshot(null, Collections.emptyList(), 0, 0);
+    private volatile boolean running = true;
+
+    LiveTicketTracker(int top) {
+        this.ranking = new TicketRanking(top);
+    }
+
+    public static void main(String[] args) {
+        String tailPath = null;
+        int port = -1;
+        int top = LotteryAnalyzer.DEFAULT_TOP;
+        int reportSeconds = 5;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--tail":
+                        tailPath = args[++i];
+                        break;
+                    case "--port":
+                        port = Integer.parseInt(args[++i]);
+                        break;
+                    case "--top":
+                        top = Integer.parseInt(args[++i]);
+                        break;
+                    case "--report-seconds":
+                        reportSeconds = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if ((tailPath == null) == (port < 0)) {
+                throw new IllegalArgumentException(
+                    "Usage: LiveTicketTracker (--tail <file> | --port N) [--top K] [--report-seconds S]");
+            }
+            if (top < 1) {
+                throw new IllegalArgumentException("Ranking size must be at least 1!");
+            }
+            if (reportSeconds < 1) {
+                throw new IllegalArgumentException("Report interval must be at least 1 second!");
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.out.println("Error: --port, --top and --report-seconds need an integer value.");
+            return;
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        LiveTicketTracker tracker = new LiveTicketTracker(top);
+        String path = tailPath;
+        int listenPort = port;
+        Thread consumer = new Thread(() -> {
+            try {
+                if (path != null) {
+                    tracker.tail(Path.of(path));
+                } else {
+                    tracker.listen(listenPort);
+                }
+            } catch (IOException e) {
+                System.out.println("IO Error: " + e.getMessage());
+            }
+        }, "ticket-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+
+        // Report the current answer periodically; reads never wait for the consumer
+        while (consumer.isAlive()) {
+            try {
+                consumer.join(reportSeconds * 1000L);
+            } catch (InterruptedException e) {
+                break;
+            }
+            Snapshot snapshot = tracker.current();
+            System.out.println("Tickets: " + snapshot.tickets + " (" + snapshot.invalid + " invalid)");
+            if (snapshot.winner != null) {
+                System.out.printf("Current winner: %s with an average of %.1f%n",
+                    snapshot.winner.getNumber(), snapshot.winner.getAverage());
+                LotteryAnalyzer.printTickets(snapshot.ranking);
+            }
+            System.out.println();
+        }
+    }
+
+    // The latest published answer; constant time and safe from any thread
+    public Snapshot current() {
+        return current;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    // Follows a file as it grows, starting from the beginning; restarts if it is truncated or
+    // replaced by a new file (log rotation)
+    void tail(Path file) throws IOException {
+        while (running) {
+            try (InputStream in = new FileInputStream(file.toFile())) {
+                // Identifies the file just opened; null where the file system has no file keys
+                Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+                if (!pump(in, file, fileKey)) {
+                    return;
+                }
+            }
+            // The file was truncated or replaced; read it again from the start
+        }
+    }
+
+    // Accepts local connections one at a time and consumes each until it closes
+    void listen(int port) throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 1, InetAddress.getLoopbackAddress())) {
+            System.out.println("Listening for tickets on " + server.getLocalSocketAddress());
+            while (running) {
+                try (Socket socket = server.accept()) {
+                    pump(socket.getInputStream(), null, null);
+                }
+            }
+        }
+    }
+
+    // Reads lines until the stream ends (or, when tailing, until the file is truncated or
+    // replaced). Returns false if the tracker was stopped.
+    private boolean pump(InputStream in, Path tailed, Object tailedKey) throws IOException {
+        byte[] buffer = new byte[IO_BUFFER_SIZE];
+        int carry = 0;
+        long position = 0;
+
+        while (running) {
+            if (carry == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = in.read(buffer, carry, buffer.length - carry);
+            if (read == -1) {
+                if (tailed == null) {
+                    // Socket closed; a final line without '\n' still counts
+                    if (carry > 0) {
+                        line(buffer, 0, carry);
+                    }
+                    publish();
+                    return true;
+                }
+                if (rotated(tailed, tailedKey, position)) {
+                    return true;
+                }
+                sleep();
+                continue;
+            }
+            position += read;
+
+            int limit = carry + read;
+            int lineStart = 0;
+            for (int i = carry; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    line(buffer, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            carry = limit - lineStart;
+            System.arraycopy(buffer, lineStart, buffer, 0, carry);
+            publish();
+        }
+        return false;
+    }
+
+    // Checked at the end of the open file: true if the path now holds less than was read from
+    // it, or a different file than the one open
+    private static boolean rotated(Path file, Object fileKey, long position) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // Moved away and not created again yet; keep waiting on the open file
+            return false;
+        }
+        return attributes.size() < position || (fileKey != null && !fileKey.equals(attributes.fileKey()));
+    }
+
+    @Override
+    public void line(byte[] buffer, int start, int end) {
+        long parsed = LotteryAnalyzer.parseTicket(buffer, start, end);
+        if (parsed == LotteryAnalyzer.BLANK) {
+            return;
+        }
+        if (parsed == LotteryAnalyzer.INVALID) {
+            invalid++;
+            return;
+        }
+
+        tickets++;
+        while (ByteLines.isBlank(buffer[start])) {
+            start++;
+        }
+        while (ByteLines.isBlank(buffer[end - 1])) {
+            end--;
+        }
+        if (ranking.offer(LotteryAnalyzer.sumOf(parsed), LotteryAnalyzer.digitsOf(parsed), buffer, start, end)) {
+            dirty = true;
+        }
+    }
+
+    // Swaps in a new snapshot if anything changed; the ranking is only copied when it changed
+    private void publish() {
+        Snapshot previous = current;
+        if (dirty) {
+            current = new Snapshot(ranking.best(), Collections.unmodifiableList(ranking.ranking()), tickets, invalid);
+            dirty = false;
+        } else if (previous.tickets != tickets || previous.invalid != invalid) {
+            current = new Snapshot(previous.winner, previous.ranking, tickets, invalid);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveTicketTrackerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final LiveTicketTracker tracker = new LiveTicketTracker(2);
+    private Thread consumer;
+
+    private void startTailing(Path file) {
+        consumer = new Thread(() -> {
+            try {
+                tracker.tail(file);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }, "ticket-consumer");
+        consumer.start();
+    }
+
+    @AfterEach
+    void stopTailing() throws InterruptedException {
+        tracker.stop();
+        if (consumer != null) {
+            consumer.join(5_000);
+            assertFalse(consumer.isAlive());
+        }
+    }
+
+    // Waits for the consumer to publish a snapshot with the given ticket count
+    private LiveTicketTracker.Snapshot awaitTickets(long tickets) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        LiveTicketTracker.Snapshot snapshot = tracker.current();
+        while (snapshot.getTickets() != tickets && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            snapshot = tracker.current();
+        }
+        assertEquals(tickets, snapshot.getTickets());
+        return snapshot;
+    }
+
+    private static List<String> numbers(LiveTicketTracker.Snapshot snapshot) {
+        return snapshot.getRanking().stream().map(TicketRanking.Ticket::getNumber).toList();
+    }
+
+    @Test
+    void testPublishesSnapshotsAsTheFileGrows() throws IOException, InterruptedException {
+        Path file = tempDir.resolve("tickets.txt");
+        Files.writeString(file, "12-34\n  56-78\nxx\n\n");
+        assertEquals(0, tracker.current().getTickets());
+        assertNull(tracker.current().getWinner());
+
+        startTailing(file);
+        LiveTicketTracker.Snapshot first = awaitTickets(2);
+        assertEquals(1, first.getInvalid());
+        assertEquals("56-78", first.getWinner().getNumber());
+        assertEquals(List.of("56-78", "12-34"), numbers(first));
+
+        // A line is only counted once its newline arrives
+        Files.writeString(file, "99-9", StandardOpenOption.APPEND);
+        Files.writeString(file, "9\n11-11\n", StandardOpenOption.APPEND);
+        LiveTicketTracker.Snapshot second = awaitTickets(4);
+        assertEquals("99-99", second.getWinner().getNumber());
+        assertEquals(List.of("99-99", "56-78"), numbers(second));
+
+        // Published snapshots never change
+        assertEquals(2, first.getTickets());
+        assertEquals(List.of("56-78", "12-34"), numbers(first));
+        assertThrows(UnsupportedOperationException.class, () -> second.getRanking().clear());
+    }
+
+    @Test
+    void testRestartsAfterTruncation() throws IOException, InterruptedException {
+        Path file = tempDir.resolve("tickets.txt");
+        Files.writeString(file, "12-34\n11-11\n22-22\n");
+        startTailing(file);
+        awaitTickets(3);
+
+        // Shorter than what was already read, so the tracker reads the file again from the start
+        Files.writeString(file, "99-99\n");
+        LiveTicketTracker.Snapshot snapshot = awaitTickets(4);
+        assertEquals("99-99", snapshot.getWinner().getNumber());
+    }
+
+    @Test
+    void testRestartsWhenTheFileIsReplaced() throws IOException, InterruptedException {
+        Path file = tempDir.resolve("tickets.txt");
+        Files.writeString(file, "12-34\n");
+        startTailing(file);
+        awaitTickets(1);
+
+        // A new file, longer than the old one, moved over it as log rotation would
+        Path rotated = tempDir.resolve("tickets.new");
+        Files.writeString(rotated, "11-11\n22-22\n99-99\n");
+        Files.move(rotated, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LiveTicketTracker.Snapshot snapshot = awaitTickets(4);
+        assertEquals("99-99", snapshot.getWinner().getNumber());
+    }
+}
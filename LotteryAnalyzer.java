@@ -0,0 +1,146 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+// Streams winning numbers (one per line, e.g. "12-34-56-78-90") from a file and ranks them by
+// digit average. Digit sums are computed directly on the raw bytes; only tickets that enter the
+// top-K ranking are ever turned into Strings.
+public class LotteryAnalyzer implements ByteLines.LineHandler {
+
+    static final int DEFAULT_TOP = 10;
+
+    // Result of parseTicket for lines with no content
+    static final long BLANK = 0L;
+    // Result of parseTicket for lines that are not a dash-separated number
+    static final long INVALID = -1L;
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    private final TicketRanking ranking;
+    private long analyzed;
+    private long invalid;
+
+    LotteryAnalyzer(int top) {
+        this.ranking = new TicketRanking(top);
+    }
+
+    public static void main(String[] args) {
+        String path = null;
+        int top = DEFAULT_TOP;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--top")) {
+                    top = Integer.parseInt(args[++i]);
+                } else {
+                    path = args[i];
+                }
+            }
+            if (path == null) {
+                throw new IllegalArgumentException("Usage: LotteryAnalyzer <file> [--top K]");
+            }
+
+            LotteryAnalyzer analyzer = new LotteryAnalyzer(top);
+            long start = System.nanoTime();
+            try (InputStream in = new FileInputStream(path)) {
+                analyzer.analyze(in);
+            }
+            analyzer.report(System.nanoTime() - start);
+
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.out.println("Error: --top needs an integer value.");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        } catch (IOException e) {
+            System.out.println("IO Error: " + e.getMessage());
+        }
+    }
+
+    void analyze(InputStream in) throws IOException {
+        ByteLines.forEach(in, IO_BUFFER_SIZE, this);
+    }
+
+    @Override
+    public void line(byte[] buffer, int start, int end) {
+        long parsed = parseTicket(buffer, start, end);
+        if (parsed == BLANK) {
+            return;
+        }
+        if (parsed == INVALID) {
+            invalid++;
+            return;
+        }
+
+        analyzed++;
+        // Offer the trimmed ticket so ranked numbers print without stray whitespace
+        while (ByteLines.isBlank(buffer[start])) {
+            start++;
+        }
+        while (ByteLines.isBlank(buffer[end - 1])) {
+            end--;
+        }
+        ranking.offer(sumOf(parsed), digitsOf(parsed), buffer, start, end);
+    }
+
+    // Sums the digits of line[start, end), skipping dashes and surrounding whitespace.
+    // Returns the sum and digit count packed into a long, BLANK or INVALID.
+    static long parseTicket(byte[] line, int start, int end) {
+        while (start < end && ByteLines.isBlank(line[start])) {
+            start++;
+        }
+        while (end > start && ByteLines.isBlank(line[end - 1])) {
+            end--;
+        }
+        if (start == end) {
+            return BLANK;
+        }
+
+        int sum = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line[i] - '0';
+            if (digit >= 0 && digit <= 9) {
+                sum += digit;
+                digits++;
+            } else if (line[i] != '-') {
+                return INVALID;
+            }
+        }
+        return digits == 0 ? INVALID : pack(sum, digits);
+    }
+
+    static long pack(int sum, int digits) {
+        return ((long) sum << 32) | digits;
+    }
+
+    static int sumOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    static int digitsOf(long packed) {
+        return (int) packed;
+    }
+
+    private void report(long elapsedNanos) {
+        System.out.printf("Analyzed %d tickets (%d invalid) in %.3f s%n", analyzed, invalid, elapsedNanos / 1e9);
+        System.out.println();
+
+        List<TicketRanking.Ticket> top = ranking.ranking();
+        System.out.println("Top " + top.size() + " winning numbers by digit average:");
+        printTickets(top);
+
+        if (ranking.tieCount() > 0) {
+            System.out.println();
+            System.out.println(ranking.tieCount() + " more ticket(s) tie with the last place, including:");
+            printTickets(ranking.ties());
+        }
+    }
+
+    static void printTickets(List<TicketRanking.Ticket> tickets) {
+        int rank = 1;
+        for (TicketRanking.Ticket ticket : tickets) {
+            System.out.printf("%3d. %s  Digit Sum: %d, Digit Average: %.1f%n",
+                rank++, ticket.getNumber(), ticket.getSum(), ticket.getAverage());
+        }
+    }
+}
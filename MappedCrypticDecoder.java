@@ -0,0 +1,144 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Decodes a file of cryptic integers (one per line) by parsing ASCII digits straight
+// out of a memory-mapped view of the file. The hot loop works on primitives and a
+// reusable output buffer, so no objects are allocated per record.
+public class MappedCrypticDecoder {
+
+    // Default size of each mapped view; large files are processed one window at a time
+    static final long WINDOW_SIZE = 256L << 20;
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final long windowSize;
+    private final byte[] codes = new byte[OUTPUT_BUFFER_SIZE];
+    private int codesLength;
+
+    // Parser state for the current record; it survives across window boundaries
+    private long number;
+    private int digits;
+    private boolean seenSign;
+    private boolean negative;
+    private boolean trailingBlank;
+    private boolean malformed;
+
+    // Records that would have raised InputMismatchException (not an integer)
+    long mismatched;
+    // Records that would have raised IllegalArgumentException (not a positive integer with 2+ digits)
+    long outOfRange;
+    long decoded;
+
+    MappedCrypticDecoder(OutputStream out) {
+        this(out, WINDOW_SIZE);
+    }
+
+    MappedCrypticDecoder(OutputStream out, long windowSize) {
+        if (windowSize < 1 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window size must be between 1 and " + Integer.MAX_VALUE + " bytes!");
+        }
+        this.out = out;
+        this.windowSize = windowSize;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("⚠️ Usage: MappedCrypticDecoder <file>");
+            return;
+        }
+
+        long start = System.nanoTime();
+        MappedCrypticDecoder decoder = new MappedCrypticDecoder(System.out);
+        try {
+            decoder.decode(Path.of(args[0]));
+        } catch (IOException e) {
+            System.err.println("IO Error: " + e.getMessage());
+            return;
+        }
+
+        if (decoder.mismatched > 0) {
+            System.err.println("❌ Error: " + decoder.mismatched + " record(s) were not valid integer numbers.");
+        }
+        if (decoder.outOfRange > 0) {
+            System.err.println("⚠️ " + decoder.outOfRange + " record(s) were not positive integers with at least two digits.");
+        }
+        Chapter1_Challenge_1_1.reportThroughput(decoder.decoded,
+            decoder.mismatched + decoder.outOfRange, System.nanoTime() - start);
+    }
+
+    void decode(Path input) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += windowSize) {
+                long length = Math.min(windowSize, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                parse(window, (int) length);
+            }
+        }
+        endRecord();
+        flush();
+    }
+
+    private void parse(MappedByteBuffer window, int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            byte b = window.get(i);
+            if (b == '\n') {
+                endRecord();
+            } else if (b >= '0' && b <= '9') {
+                if (trailingBlank) {
+                    malformed = true;
+                }
+                number = number * 10 + (b - '0');
+                digits++;
+            } else if (b == ' ' || b == '\t' || b == '\r') {
+                if (digits > 0 || seenSign) {
+                    trailingBlank = true;
+                }
+            } else if ((b == '-' || b == '+') && digits == 0 && !seenSign) {
+                seenSign = true;
+                negative = b == '-';
+            } else {
+                malformed = true;
+            }
+        }
+    }
+
+    private void endRecord() throws IOException {
+        // A 19-digit magnitude above Long.MAX_VALUE wraps negative; only -2^63 still fits
+        boolean overflow = digits > 19 || (digits == 19 && number < 0 && !(negative && number == Long.MIN_VALUE));
+        if (malformed || (seenSign && digits == 0) || overflow) {
+            // Not a token that fits in a long
+            mismatched++;
+        } else if (digits > 0) {
+            if (negative || number < 10) {
+                outOfRange++;
+            } else {
+                // Flush before the code buffer can overflow (code + newline)
+                if (codesLength > codes.length - Chapter1_Challenge_1_1.MAX_CODE_LENGTH - 1) {
+                    flush();
+                }
+                codesLength = Chapter1_Challenge_1_1.writeCode(number, codes, codesLength);
+                codes[codesLength++] = '\n';
+                decoded++;
+            }
+        }
+
+        number = 0;
+        digits = 0;
+        seenSign = false;
+        negative = false;
+        trailingBlank = false;
+        malformed = false;
+    }
+
+    private void flush() throws IOException {
+        out.write(codes, 0, codesLength);
+        out.flush();
+        codesLength = 0;
+    }
+}
@@ -0,0 +1,99 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCrypticDecoderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private MappedCrypticDecoder decode(String text, long windowSize) throws IOException {
+        Path input = tempDir.resolve("codes.txt");
+        Files.writeString(input, text);
+        MappedCrypticDecoder decoder = new MappedCrypticDecoder(out, windowSize);
+        decoder.decode(input);
+        return decoder;
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void testSplitsMismatchedFromOutOfRange() throws IOException {
+        MappedCrypticDecoder decoder = decode("5834\n12a\n1.5\n--5\n+\n7\n-42\n0\n-0\n", MappedCrypticDecoder.WINDOW_SIZE);
+
+        assertEquals("2011\n", output());
+        assertEquals(1, decoder.decoded);
+        // Not integers at all: InputMismatchException in the Scanner version
+        assertEquals(4, decoder.mismatched);
+        // Integers, but not positive with two or more digits: IllegalArgumentException
+        assertEquals(4, decoder.outOfRange);
+    }
+
+    @Test
+    void testSignsAndBlanks() throws IOException {
+        MappedCrypticDecoder decoder = decode("+5834\n  5834\t\r\n\n   \n58 34\n- 58\n5834", MappedCrypticDecoder.WINDOW_SIZE);
+
+        // The last record has no newline and is still decoded
+        assertEquals("2011\n2011\n2011\n", output());
+        assertEquals(3, decoder.decoded);
+        assertEquals(2, decoder.mismatched);
+        assertEquals(0, decoder.outOfRange);
+    }
+
+    @Test
+    void testNineteenDigitOverflow() throws IOException {
+        MappedCrypticDecoder decoder = decode(
+            "9223372036854775807\n9223372036854775808\n9999999999999999999\n12345678901234567890\n"
+                + "-9223372036854775808\n-9223372036854775809\n",
+            MappedCrypticDecoder.WINDOW_SIZE);
+
+        assertEquals("632\n", output());
+        assertEquals(1, decoder.decoded);
+        assertEquals(4, decoder.mismatched);
+        // Long.MIN_VALUE is still a long, just not a positive one
+        assertEquals(1, decoder.outOfRange);
+    }
+
+    @Test
+    void testRecordsSplitAcrossWindows() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            text.append(i % 7 == 0 ? " -" : " +").append(10 + i * 7919L).append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 11 == 0) {
+                text.append("9x9\n\n");
+            }
+        }
+        MappedCrypticDecoder whole = decode(text.toString(), MappedCrypticDecoder.WINDOW_SIZE);
+        String expected = output();
+
+        for (long windowSize : new long[] {1, 3, 64}) {
+            out.reset();
+            MappedCrypticDecoder windowed = decode(text.toString(), windowSize);
+
+            assertEquals(expected, output(), "window size " + windowSize);
+            assertEquals(whole.decoded, windowed.decoded);
+            assertEquals(whole.mismatched, windowed.mismatched);
+            assertEquals(whole.outOfRange, windowed.outOfRange);
+        }
+        assertEquals(428, whole.decoded);
+        assertEquals(46, whole.mismatched);
+        assertEquals(72, whole.outOfRange);
+    }
+
+    @Test
+    void testRejectsWindowSizeOutsideIntRange() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedCrypticDecoder(out, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MappedCrypticDecoder(out, 1L << 31));
+    }
+}
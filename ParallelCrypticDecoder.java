@@ -0,0 +1,163 @@
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+// Decodes a large file of cryptic integers (one per line) on a ForkJoinPool.
+// The file is split into byte ranges at newline boundaries; each range is decoded
+// independently and the results are written in input order.
+public class ParallelCrypticDecoder {
+
+    static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    // How many chunks may be in flight per worker before the writer catches up
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    // Decoded output of one byte range
+    static final class ChunkResult {
+        final byte[] codes;
+        final int length;
+        final long decoded;
+        final long invalid;
+
+        ChunkResult(byte[] codes, int length, long decoded, long invalid) {
+            this.codes = codes;
+            this.length = length;
+            this.decoded = decoded;
+            this.invalid = invalid;
+        }
+    }
+
+    static final class DecodeChunk extends RecursiveTask<ChunkResult> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+
+        DecodeChunk(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            int length = (int) (end - start);
+            byte[] in = new byte[length];
+            try {
+                FileChunks.readFully(channel, start, end, in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            // The shortest valid line ("10\n") is 3 bytes and yields at most 5 output bytes
+            byte[] out = new byte[length / 3 * 5 + Chapter1_Challenge_1_1.MAX_CODE_LENGTH + 1];
+            int pos = 0;
+            long decoded = 0;
+            long invalid = 0;
+            int lineStart = 0;
+
+            for (int i = 0; i <= length; i++) {
+                if (i < length && in[i] != '\n') {
+                    continue;
+                }
+                if (i == length && lineStart == length) {
+                    break;
+                }
+                int next = Chapter1_Challenge_1_1.decodeRecord(in, lineStart, i, out, pos);
+                if (next < 0) {
+                    invalid++;
+                } else if (next > pos) {
+                    decoded++;
+                    pos = next;
+                }
+                lineStart = i + 1;
+            }
+            // Finished chunks can wait in the window for the writer; keep only the bytes written
+            return new ChunkResult(Arrays.copyOf(out, pos), pos, decoded, invalid);
+        }
+    }
+
+    public static void main(String[] args) {
+        String inputPath = null;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--parallelism":
+                        parallelism = Integer.parseInt(args[++i]);
+                        break;
+                    case "--chunk-size":
+                        chunkSize = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        inputPath = args[i];
+                }
+            }
+            if (inputPath == null) {
+                throw new IllegalArgumentException("Usage: ParallelCrypticDecoder <file> [--parallelism N] [--chunk-size BYTES]");
+            }
+            if (parallelism < 1 || chunkSize < 1) {
+                throw new IllegalArgumentException("Parallelism and chunk size must be positive!");
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("❌ Error: --parallelism and --chunk-size need an integer value.");
+            return;
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ " + e.getMessage());
+            return;
+        }
+
+        long start = System.nanoTime();
+        OutputStream out = new BufferedOutputStream(System.out, 1 << 16);
+        try {
+            long[] counts = decode(Path.of(inputPath), out, parallelism, chunkSize);
+            out.flush();
+            Chapter1_Challenge_1_1.reportThroughput(counts[0], counts[1], System.nanoTime() - start);
+        } catch (IOException e) {
+            System.err.println("IO Error: " + e.getMessage());
+        }
+    }
+
+    // Decodes input into out using the given parallelism and returns {decoded, invalid}
+    static long[] decode(Path input, OutputStream out, int parallelism, int chunkSize) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int window = parallelism * CHUNKS_PER_WORKER;
+            ArrayDeque<ForkJoinTask<ChunkResult>> inFlight = new ArrayDeque<>(window);
+            long decoded = 0;
+            long invalid = 0;
+            long position = 0;
+
+            while (position < size || !inFlight.isEmpty()) {
+                // Keep the pool busy while bounding memory held by finished chunks
+                while (position < size && inFlight.size() < window) {
+                    long end = FileChunks.nextBoundary(channel, position + chunkSize, size);
+                    inFlight.add(pool.submit(new DecodeChunk(channel, position, end)));
+                    position = end;
+                }
+
+                // Write the oldest chunk first to preserve input order
+                ChunkResult result = inFlight.poll().join();
+                out.write(result.codes, 0, result.length);
+                decoded += result.decoded;
+                invalid += result.invalid;
+            }
+            return new long[] {decoded, invalid};
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
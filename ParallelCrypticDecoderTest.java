@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCrypticDecoderTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Valid codes of every length, blanks, CRLF endings and invalid records, with no final newline
+    static String mixedLines(int count, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            switch (random.nextInt(8)) {
+                case 0:
+                    text.append("");
+                    break;
+                case 1:
+                    text.append("  ").append(random.nextInt(1000) + 10).append("\r");
+                    break;
+                case 2:
+                    text.append("x").append(random.nextInt(100));
+                    break;
+                case 3:
+                    text.append(random.nextInt(10));
+                    break;
+                case 4:
+                    text.append("+").append(Math.abs(random.nextLong()) | 10);
+                    break;
+                default:
+                    text.append(10 + random.nextInt(Integer.MAX_VALUE - 10));
+            }
+            if (i < count - 1) {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    // The single-threaded reference: decodeRecord line by line; returns {output, decoded, invalid}
+    static Object[] decodeSequentially(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] code = new byte[Chapter1_Challenge_1_1.MAX_CODE_LENGTH + 1];
+        long decoded = 0;
+        long invalid = 0;
+        for (String line : text.split("\n", -1)) {
+            byte[] in = line.getBytes(StandardCharsets.US_ASCII);
+            int pos = Chapter1_Challenge_1_1.decodeRecord(in, 0, in.length, code, 0);
+            if (pos < 0) {
+                invalid++;
+            } else if (pos > 0) {
+                decoded++;
+                out.write(code, 0, pos);
+            }
+        }
+        return new Object[] {out.toString(StandardCharsets.US_ASCII), decoded, invalid};
+    }
+
+    @Test
+    void testOutputOrderMatchesInputAcrossChunks() throws IOException {
+        String text = mixedLines(20_000, 42);
+        Path input = tempDir.resolve("codes.txt");
+        Files.writeString(input, text);
+        Object[] expected = decodeSequentially(text);
+
+        for (int chunkSize : new int[] {1, 7, 1_000, 1 << 20}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long[] counts = ParallelCrypticDecoder.decode(input, out, 4, chunkSize);
+
+            assertEquals(expected[0], out.toString(StandardCharsets.US_ASCII), "chunk size " + chunkSize);
+            assertEquals(expected[1], counts[0]);
+            assertEquals(expected[2], counts[1]);
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        Path input = Files.createFile(tempDir.resolve("empty.txt"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertArrayEquals(new long[] {0, 0}, ParallelCrypticDecoder.decode(input, out, 2, 16));
+        assertEquals(0, out.size());
+    }
+}
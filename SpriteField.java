@@ -0,0 +1,302 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Bouncing text labels stored as a structure of arrays: one float[] per coordinate and velocity,
+// indexed by sprite. A step runs in three phases:
+//   1. bucket every sprite into a uniform grid (a counting sort, no allocation after warm-up),
+//   2. collide each sprite with the labels in its own and neighbouring cells,
+//   3. move every sprite and bounce it off the walls.
+// Phase 2 only reads positions and writes the sprite's own velocity, and phase 3 only touches
+// the sprite itself, so both can be split across cores by index range without locking.
+// Positions follow drawString: x is the left edge and y is the text baseline.
+public class SpriteField {
+
+    // Below this many sprites a step runs on the calling thread
+    static final int PARALLEL_THRESHOLD = 4_096;
+    // Sprites per fork-join leaf
+    static final int BLOCK_SIZE = 1_024;
+
+    private final ForkJoinPool pool;
+    private int size;
+    private String[] labels;
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    // Text bounds: the box is [x, x + width] by [y - ascent, y + descent]
+    private int[] width;
+    private int[] ascent;
+    private int[] descent;
+
+    // Spatial grid, rebuilt every step
+    private float cellWidth;
+    private float cellHeight;
+    private int columns;
+    private int rows;
+    private int[] cellStart = new int[1];
+    private int[] cellOf = new int[0];
+    private int[] sorted = new int[0];
+
+    public SpriteField(int capacity, int parallelism) {
+        pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        labels = new String[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        width = new int[capacity];
+        ascent = new int[capacity];
+        descent = new int[capacity];
+    }
+
+    // Adds a label and returns its index
+    public int add(String label, float xCoord, float yCoord, float xSpeed, float ySpeed,
+                   int textWidth, int textAscent, int textDescent) {
+        if (size == x.length) {
+            grow(Math.max(16, size * 2));
+        }
+        int i = size++;
+        labels[i] = label;
+        x[i] = xCoord;
+        y[i] = yCoord;
+        vx[i] = xSpeed;
+        vy[i] = ySpeed;
+        setText(i, label, textWidth, textAscent, textDescent);
+        return i;
+    }
+
+    // Replaces a label's text and its measured bounds
+    public void setText(int i, String label, int textWidth, int textAscent, int textDescent) {
+        labels[i] = label;
+        width[i] = textWidth;
+        ascent[i] = textAscent;
+        descent[i] = textDescent;
+    }
+
+    private void grow(int capacity) {
+        labels = Arrays.copyOf(labels, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        width = Arrays.copyOf(width, capacity);
+        ascent = Arrays.copyOf(ascent, capacity);
+        descent = Arrays.copyOf(descent, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String label(int i) {
+        return labels[i];
+    }
+
+    public float x(int i) {
+        return x[i];
+    }
+
+    public float y(int i) {
+        return y[i];
+    }
+
+    public float vx(int i) {
+        return vx[i];
+    }
+
+    public float vy(int i) {
+        return vy[i];
+    }
+
+    // Advances every sprite by the given time inside an areaWidth x areaHeight area
+    public void step(float seconds, int areaWidth, int areaHeight) {
+        if (size == 0) {
+            return;
+        }
+        if (size > 1) {
+            buildGrid(areaWidth, areaHeight);
+            forEachRange((from, to) -> collide(from, to));
+        }
+        forEachRange((from, to) -> move(from, to, seconds, areaWidth, areaHeight));
+    }
+
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+
+    private final class RangeAction extends RecursiveAction {
+        private final RangeTask task;
+        private final int from;
+        private final int to;
+
+        RangeAction(RangeTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BLOCK_SIZE) {
+                task.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(task, from, middle), new RangeAction(task, middle, to));
+        }
+    }
+
+    private void forEachRange(RangeTask task) {
+        if (pool == null || size < PARALLEL_THRESHOLD) {
+            task.run(0, size);
+        } else {
+            pool.invoke(new RangeAction(task, 0, size));
+        }
+    }
+
+    // Buckets sprites by cell. Cells are at least as large as the largest label, so any
+    // overlapping pair sits in the same or adjacent cells.
+    private void buildGrid(int areaWidth, int areaHeight) {
+        int maxWidth = 1;
+        int maxHeight = 1;
+        for (int i = 0; i < size; i++) {
+            maxWidth = Math.max(maxWidth, width[i]);
+            maxHeight = Math.max(maxHeight, ascent[i] + descent[i]);
+        }
+        cellWidth = maxWidth;
+        cellHeight = maxHeight;
+        columns = Math.max(1, (int) Math.ceil(Math.max(areaWidth, 1) / cellWidth));
+        rows = Math.max(1, (int) Math.ceil(Math.max(areaHeight, 1) / cellHeight));
+        // Keep the grid proportional to the sprite count
+        while ((long) columns * rows > 4L * size + 16) {
+            cellWidth *= 2;
+            cellHeight *= 2;
+            columns = Math.max(1, (columns + 1) / 2);
+            rows = Math.max(1, (rows + 1) / 2);
+        }
+
+        int cells = columns * rows;
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+        } else {
+            Arrays.fill(cellStart, 0, cells + 1, 0);
+        }
+        if (sorted.length < size) {
+            sorted = new int[x.length];
+            cellOf = new int[x.length];
+        }
+
+        // Counting sort by cell index
+        for (int i = 0; i < size; i++) {
+            int cell = cellIndex(column(x[i]), row(y[i] - ascent[i]));
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        for (int i = 0; i < size; i++) {
+            // cellStart[c] is used as the insertion cursor and ends up at the start of cell c + 1
+            sorted[cellStart[cellOf[i]]++] = i;
+        }
+        for (int c = cells; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    private int column(float xCoord) {
+        return Math.min(columns - 1, Math.max(0, (int) (xCoord / cellWidth)));
+    }
+
+    private int row(float top) {
+        return Math.min(rows - 1, Math.max(0, (int) (top / cellHeight)));
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+
+    // Turns each sprite away from any overlapping label it is moving towards. The test uses the
+    // velocity from before the step, so the result does not depend on the order neighbours are
+    // visited in: a sprite between two labels turns once, not once per label.
+    private void collide(int from, int to) {
+        for (int i = from; i < to; i++) {
+            float speedX = vx[i];
+            float speedY = vy[i];
+            boolean turnX = false;
+            boolean turnY = false;
+            float left = x[i];
+            float right = left + width[i];
+            float top = y[i] - ascent[i];
+            float bottom = y[i] + descent[i];
+            int column = column(left);
+            int row = row(top);
+
+            for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                for (int c = Math.max(0, column - 1); c <= Math.min(columns - 1, column + 1); c++) {
+                    int cell = cellIndex(c, r);
+                    for (int s = cellStart[cell]; s < cellStart[cell + 1]; s++) {
+                        int j = sorted[s];
+                        if (j == i) {
+                            continue;
+                        }
+                        float overlapX = Math.min(right, x[j] + width[j]) - Math.max(left, x[j]);
+                        float overlapY = Math.min(bottom, y[j] + descent[j]) - Math.max(top, y[j] - ascent[j]);
+                        if (overlapX <= 0 || overlapY <= 0) {
+                            continue;
+                        }
+                        // Resolve along the axis with the smaller overlap
+                        if (overlapX < overlapY) {
+                            float direction = (x[j] + width[j] * 0.5f) - (left + width[i] * 0.5f);
+                            turnX |= direction * speedX > 0;
+                        } else {
+                            float direction = (y[j] + (descent[j] - ascent[j]) * 0.5f)
+                                - (y[i] + (descent[i] - ascent[i]) * 0.5f);
+                            turnY |= direction * speedY > 0;
+                        }
+                    }
+                }
+            }
+            if (turnX) {
+                vx[i] = -speedX;
+            }
+            if (turnY) {
+                vy[i] = -speedY;
+            }
+        }
+    }
+
+    // Moves sprites and bounces them off the edges of the area
+    private void move(int from, int to, float seconds, int areaWidth, int areaHeight) {
+        for (int i = from; i < to; i++) {
+            x[i] += vx[i] * seconds;
+            y[i] += vy[i] * seconds;
+
+            // Horizontal bounce
+            if (x[i] + width[i] > areaWidth) {
+                x[i] = areaWidth - width[i];
+                vx[i] = -Math.abs(vx[i]);
+            } else if (x[i] < 0) {
+                x[i] = 0;
+                vx[i] = Math.abs(vx[i]);
+            }
+
+            // Vertical bounce (y is the baseline)
+            if (y[i] + descent[i] > areaHeight) {
+                y[i] = areaHeight - descent[i];
+                vy[i] = -Math.abs(vy[i]);
+            } else if (y[i] < ascent[i]) {
+                y[i] = ascent[i];
+                vy[i] = Math.abs(vy[i]);
+            }
+        }
+    }
+
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
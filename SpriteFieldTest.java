@@ -0,0 +1,149 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteFieldTest {
+
+    private static final int AREA_WIDTH = 4_000;
+    private static final int AREA_HEIGHT = 3_000;
+
+    // Randomly placed labels, each fully inside the area so a step of zero seconds never bounces
+    // one off a wall. Returns {x, y, vx, vy, width, ascent, descent}.
+    private static float[][] randomSprites(int count, long seed) {
+        Random random = new Random(seed);
+        float[][] sprites = new float[7][count];
+        for (int i = 0; i < count; i++) {
+            int width = 20 + random.nextInt(140);
+            int ascent = 10 + random.nextInt(30);
+            int descent = random.nextInt(10);
+            sprites[0][i] = random.nextFloat() * (AREA_WIDTH - width);
+            sprites[1][i] = ascent + random.nextFloat() * (AREA_HEIGHT - ascent - descent);
+            sprites[2][i] = random.nextInt(400) - 200;
+            sprites[3][i] = random.nextInt(400) - 200;
+            sprites[4][i] = width;
+            sprites[5][i] = ascent;
+            sprites[6][i] = descent;
+        }
+        return sprites;
+    }
+
+    private static SpriteField field(float[][] sprites, int parallelism) {
+        int count = sprites[0].length;
+        SpriteField field = new SpriteField(count, parallelism);
+        for (int i = 0; i < count; i++) {
+            field.add("label" + i, sprites[0][i], sprites[1][i], sprites[2][i], sprites[3][i],
+                (int) sprites[4][i], (int) sprites[5][i], (int) sprites[6][i]);
+        }
+        return field;
+    }
+
+    // The collision rule of SpriteField checked against every other sprite, O(n^2).
+    // Returns the velocities after one collision phase as {vx, vy}.
+    private static float[][] bruteForceCollide(float[][] sprites) {
+        float[] x = sprites[0];
+        float[] y = sprites[1];
+        float[] width = sprites[4];
+        float[] ascent = sprites[5];
+        float[] descent = sprites[6];
+        int count = x.length;
+        float[][] velocities = {sprites[2].clone(), sprites[3].clone()};
+        for (int i = 0; i < count; i++) {
+            boolean turnX = false;
+            boolean turnY = false;
+            for (int j = 0; j < count; j++) {
+                if (j == i) {
+                    continue;
+                }
+                float overlapX = Math.min(x[i] + width[i], x[j] + width[j]) - Math.max(x[i], x[j]);
+                float overlapY = Math.min(y[i] + descent[i], y[j] + descent[j]) - Math.max(y[i] - ascent[i], y[j] - ascent[j]);
+                if (overlapX <= 0 || overlapY <= 0) {
+                    continue;
+                }
+                if (overlapX < overlapY) {
+                    float direction = (x[j] + width[j] * 0.5f) - (x[i] + width[i] * 0.5f);
+                    turnX |= direction * sprites[2][i] > 0;
+                } else {
+                    float direction = (y[j] + (descent[j] - ascent[j]) * 0.5f) - (y[i] + (descent[i] - ascent[i]) * 0.5f);
+                    turnY |= direction * sprites[3][i] > 0;
+                }
+            }
+            if (turnX) {
+                velocities[0][i] = -velocities[0][i];
+            }
+            if (turnY) {
+                velocities[1][i] = -velocities[1][i];
+            }
+        }
+        return velocities;
+    }
+
+    private static void assertSameCollisions(float[][] sprites, int parallelism) {
+        float[][] expected = bruteForceCollide(sprites);
+        SpriteField field = field(sprites, parallelism);
+        try {
+            // Zero seconds: only the collision phase changes anything
+            field.step(0, AREA_WIDTH, AREA_HEIGHT);
+            int turned = 0;
+            for (int i = 0; i < field.size(); i++) {
+                assertEquals(expected[0][i], field.vx(i), "vx of sprite " + i);
+                assertEquals(expected[1][i], field.vy(i), "vy of sprite " + i);
+                assertEquals(sprites[0][i], field.x(i));
+                assertEquals(sprites[1][i], field.y(i));
+                if (expected[0][i] != sprites[2][i] || expected[1][i] != sprites[3][i]) {
+                    turned++;
+                }
+            }
+            // The field is dense enough that the comparison covers many collisions
+            assertTrue(turned > sprites[0].length / 10, "only " + turned + " sprites turned");
+        } finally {
+            field.shutdown();
+        }
+    }
+
+    @Test
+    void testGridFindsTheSameCollisionsAsBruteForce() {
+        assertSameCollisions(randomSprites(2_000, 1), 1);
+    }
+
+    @Test
+    void testParallelGridFindsTheSameCollisionsAsBruteForce() {
+        assertSameCollisions(randomSprites(6_000, 2), 4);
+    }
+
+    @Test
+    void testSpriteBetweenTwoLabelsTurnsOnce() {
+        SpriteField field = new SpriteField(3, 1);
+        // The middle label overlaps both neighbours by 20 px and moves towards the left one.
+        // Turning once per label would send it left again after meeting the right one.
+        field.add("left", 0, 50, 0, 0, 100, 30, 10);
+        field.add("middle", 80, 50, -100, 0, 100, 30, 10);
+        field.add("right", 160, 50, 0, 0, 100, 30, 10);
+        field.step(0, 400, 200);
+
+        assertEquals(100, field.vx(1));
+    }
+
+    @Test
+    void testSameResultForAnyParallelism() {
+        float[][] sprites = randomSprites(SpriteField.PARALLEL_THRESHOLD * 2, 3);
+        SpriteField serial = field(sprites, 1);
+        SpriteField parallel = field(sprites, 4);
+        try {
+            for (int step = 0; step < 20; step++) {
+                serial.step(1f / 60, AREA_WIDTH, AREA_HEIGHT);
+                parallel.step(1f / 60, AREA_WIDTH, AREA_HEIGHT);
+            }
+            for (int i = 0; i < serial.size(); i++) {
+                assertEquals(serial.x(i), parallel.x(i), "x of sprite " + i);
+                assertEquals(serial.y(i), parallel.y(i), "y of sprite " + i);
+                assertEquals(serial.vx(i), parallel.vx(i), "vx of sprite " + i);
+                assertEquals(serial.vy(i), parallel.vy(i), "vy of sprite " + i);
+            }
+        } finally {
+            serial.shutdown();
+            parallel.shutdown();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Bounded top-K ranking of lottery tickets by digit average.
+// A min-heap holds the K best tickets; tickets that tie with the K-th best are kept
+// separately (up to K examples, the rest are only counted). Each offer costs O(log K),
+// and rejected tickets are never turned into Strings.
+public class TicketRanking {
+
+    // A ranked ticket with its digit sum and digit count
+    public static final class Ticket {
+        final String number;
+        final int sum;
+        final int digits;
+        final long sequence;
+
+        Ticket(String number, int sum, int digits, long sequence) {
+            this.number = number;
+            this.sum = sum;
+            this.digits = digits;
+            this.sequence = sequence;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public int getSum() {
+            return sum;
+        }
+
+        public double getAverage() {
+            return (double) sum / digits;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+    }
+
+    // Best first: higher average, then earlier ticket
+    static final Comparator<Ticket> BEST_FIRST = (a, b) -> {
+        int cmp = compareAverage(b.sum, b.digits, a.sum, a.digits);
+        return cmp != 0 ? cmp : Long.compare(a.sequence, b.sequence);
+    };
+
+    private final int capacity;
+    // Worst ticket at the head
+    private final PriorityQueue<Ticket> heap;
+    private final List<Ticket> ties = new ArrayList<>();
+    private Ticket best;
+    private long tieCount;
+    private long offered;
+
+    public TicketRanking(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Ranking size must be at least 1!");
+        }
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity + 1, BEST_FIRST.reversed());
+    }
+
+    // Compares sum1/digits1 with sum2/digits2 exactly, without floating point
+    static int compareAverage(int sum1, int digits1, int sum2, int digits2) {
+        return Long.compare((long) sum1 * digits2, (long) sum2 * digits1);
+    }
+
+    public void offer(String number, int sum, int digits) {
+        byte[] bytes = number.getBytes(StandardCharsets.US_ASCII);
+        offer(sum, digits, bytes, 0, bytes.length);
+    }
+
+    // Offers the ticket stored in line[start, end); the String is only created if the ticket is kept.
+    // Returns true if the ranking (the top K or the kept ties) changed.
+    public boolean offer(int sum, int digits, byte[] line, int start, int end) {
+        long sequence = offered++;
+        if (heap.size() < capacity) {
+            add(ticket(sum, digits, line, start, end, sequence));
+            return true;
+        }
+
+        Ticket worst = heap.peek();
+        int cmp = compareAverage(sum, digits, worst.sum, worst.digits);
+        if (cmp < 0) {
+            return false;
+        }
+        if (cmp == 0) {
+            // Later tickets lose ties, so this one cannot displace anything in the heap
+            tieCount++;
+            if (ties.size() < capacity) {
+                ties.add(ticket(sum, digits, line, start, end, sequence));
+                return true;
+            }
+            return false;
+        }
+
+        Ticket evicted = heap.poll();
+        add(ticket(sum, digits, line, start, end, sequence));
+        Ticket newWorst = heap.peek();
+        if (compareAverage(evicted.sum, evicted.digits, newWorst.sum, newWorst.digits) == 0) {
+            tieCount++;
+            if (ties.size() < capacity) {
+                ties.add(evicted);
+            }
+        } else {
+            // Every tie was equal to the evicted ticket, which is now below the cut
+            ties.clear();
+            tieCount = 0;
+        }
+        return true;
+    }
+
+    private void add(Ticket ticket) {
+        heap.add(ticket);
+        if (best == null || BEST_FIRST.compare(ticket, best) < 0) {
+            best = ticket;
+        }
+    }
+
+    private static Ticket ticket(int sum, int digits, byte[] line, int start, int end, long sequence) {
+        return new Ticket(new String(line, start, end - start, StandardCharsets.US_ASCII), sum, digits, sequence);
+    }
+
+    // The highest-average ticket so far (earliest on ties), or null if nothing was offered
+    public Ticket best() {
+        return best;
+    }
+
+    // The top K tickets, best first
+    public List<Ticket> ranking() {
+        List<Ticket> ranking = new ArrayList<>(heap);
+        ranking.sort(BEST_FIRST);
+        return ranking;
+    }
+
+    // Tickets tied with the K-th best that did not fit in the ranking, earliest first
+    public List<Ticket> ties() {
+        List<Ticket> result = new ArrayList<>(ties);
+        result.sort(BEST_FIRST);
+        return result;
+    }
+
+    // Number of tickets tied with the K-th best outside the ranking, including those not kept in ties()
+    public long tieCount() {
+        return tieCount;
+    }
+
+    public long offered() {
+        return offered;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,100 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketRankingTest {
+
+    private static List<String> numbers(List<TicketRanking.Ticket> tickets) {
+        return tickets.stream().map(TicketRanking.Ticket::getNumber).toList();
+    }
+
+    @Test
+    void testKeepsBestTicketsBestFirst() {
+        TicketRanking ranking = new TicketRanking(3);
+        ranking.offer("11", 2, 2);
+        ranking.offer("99", 18, 2);
+        ranking.offer("55", 10, 2);
+        ranking.offer("77", 14, 2);
+        ranking.offer("33", 6, 2);
+
+        assertEquals(List.of("99", "77", "55"), numbers(ranking.ranking()));
+        assertEquals("99", ranking.best().getNumber());
+        assertEquals(5, ranking.offered());
+        assertEquals(0, ranking.tieCount());
+    }
+
+    @Test
+    void testCompareAverageIsExact() {
+        // Equal fractions written with different terms
+        assertEquals(0, TicketRanking.compareAverage(1, 3, 333_333_333, 999_999_999));
+        assertTrue(TicketRanking.compareAverage(2, 3, 1, 2) > 0);
+        assertTrue(TicketRanking.compareAverage(4, 9, 1, 2) < 0);
+    }
+
+    @Test
+    void testEarlierTicketWinsTie() {
+        TicketRanking ranking = new TicketRanking(1);
+        ranking.offer("first", 5, 1);
+        ranking.offer("second", 5, 1);
+
+        assertEquals(List.of("first"), numbers(ranking.ranking()));
+        assertEquals(List.of("second"), numbers(ranking.ties()));
+        assertEquals(1, ranking.tieCount());
+    }
+
+    @Test
+    void testTiesAreCountedBeyondCapacity() {
+        TicketRanking ranking = new TicketRanking(1);
+        ranking.offer("a", 5, 1);
+        ranking.offer("b", 5, 1);
+        ranking.offer("c", 5, 1);
+
+        // Only one example is kept, but every tie is counted
+        assertEquals(List.of("b"), numbers(ranking.ties()));
+        assertEquals(2, ranking.tieCount());
+    }
+
+    @Test
+    void testEvictedTicketBecomesTieWhenEqualToNewLastPlace() {
+        TicketRanking ranking = new TicketRanking(2);
+        ranking.offer("a", 5, 1);
+        ranking.offer("b", 5, 1);
+        ranking.offer("c", 5, 1);
+        ranking.offer("d", 9, 1);
+
+        assertEquals(List.of("d", "a"), numbers(ranking.ranking()));
+        assertEquals(List.of("b", "c"), numbers(ranking.ties()));
+        assertEquals(2, ranking.tieCount());
+    }
+
+    @Test
+    void testTiesClearedWhenLastPlaceImproves() {
+        TicketRanking ranking = new TicketRanking(2);
+        ranking.offer("a", 5, 1);
+        ranking.offer("b", 5, 1);
+        ranking.offer("c", 5, 1);
+        ranking.offer("d", 9, 1);
+        ranking.offer("e", 9, 1);
+
+        assertEquals(List.of("d", "e"), numbers(ranking.ranking()));
+        assertTrue(ranking.ties().isEmpty());
+        assertEquals(0, ranking.tieCount());
+    }
+
+    @Test
+    void testRejectedTicketChangesNothing() {
+        TicketRanking ranking = new TicketRanking(1);
+        ranking.offer("9", 9, 1);
+        byte[] line = "1".getBytes();
+
+        assertFalse(ranking.offer(1, 1, line, 0, line.length));
+        assertEquals(List.of("9"), numbers(ranking.ranking()));
+    }
+
+    @Test
+    void testRejectsEmptyRanking() {
+        assertThrows(IllegalArgumentException.class, () -> new TicketRanking(0));
+    }
+}
@@ -0,0 +1,434 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Key/value config with sections, the successor of the two-line config.txt of Chapter1_Challenge_1_4:
+//
+//   # comment
+//   version = 3
+//   path = data/input.txt
+//
+//   [server]
+//   port = 8080
+//   ratio = 0.75
+//   enabled = true
+//   name = "main server"
+//
+// Keys inside a section are stored as "section.key". The file is parsed in a single pass over a
+// memory-mapped buffer. Numbers and booleans are decoded straight from the bytes into primitive
+// arrays by type, and every value also keeps its text exactly as written ("0123" stays "0123").
+// Keys and value texts are interned so repeated ones share one instance. Problems are collected
+// with their line numbers instead of stopping at the first one.
+public class TypedConfig {
+
+    public enum Type { LONG, DOUBLE, BOOLEAN, STRING }
+
+    private final Map<String, Integer> index = new HashMap<>();
+    private Type[] types = new Type[64];
+    private long[] primitives = new long[64];
+    private String[] strings = new String[64];
+    private int size;
+    private final List<String> errors = new ArrayList<>();
+
+    // Scratch space for decoding keys and values
+    private byte[] scratch = new byte[256];
+
+    private TypedConfig() {
+    }
+
+    public static void main(String[] args) {
+        Path path = Path.of(args.length > 0 ? args[0] : "config.txt");
+        try {
+            TypedConfig config = load(path);
+            config.validateChallengeConfig();
+
+            if (config.errors().isEmpty()) {
+                System.out.println("Configuration read successfully! (" + config.size() + " keys)");
+            } else {
+                System.out.println("Configuration has " + config.errors().size() + " problem(s):");
+                for (String error : config.errors()) {
+                    System.out.println("  " + error);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("IO Error: " + e.getMessage());
+        }
+    }
+
+    public static TypedConfig load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Config file is too large: " + length + " bytes");
+            }
+            TypedConfig config = new TypedConfig();
+            config.parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), (int) length);
+            return config;
+        }
+    }
+
+    private void parse(MappedByteBuffer buffer, int length) {
+        String section = "";
+        int line = 0;
+        int position = 0;
+        boolean legacy = isLegacy(buffer, length);
+
+        while (position < length) {
+            line++;
+            int start = position;
+            int end = start;
+            while (end < length && buffer.get(end) != '\n') {
+                end++;
+            }
+            position = end + 1;
+
+            // Trim whitespace
+            while (start < end && isSpace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--;
+            }
+            if (start == end || buffer.get(start) == '#' || buffer.get(start) == ';') {
+                continue;
+            }
+
+            if (legacy) {
+                parseLegacyLine(buffer, start, end, line);
+                continue;
+            }
+
+            if (buffer.get(start) == '[') {
+                if (buffer.get(end - 1) != ']' || end - start < 3) {
+                    errors.add("Line " + line + ": malformed section header");
+                    continue;
+                }
+                section = decode(buffer, start + 1, end - 1).trim().intern();
+                continue;
+            }
+
+            int equals = indexOf(buffer, start, end, (byte) '=');
+            if (equals < 0) {
+                errors.add("Line " + line + ": expected key = value");
+                continue;
+            }
+            int keyEnd = equals;
+            while (keyEnd > start && isSpace(buffer.get(keyEnd - 1))) {
+                keyEnd--;
+            }
+            int valueStart = equals + 1;
+            while (valueStart < end && isSpace(buffer.get(valueStart))) {
+                valueStart++;
+            }
+            if (keyEnd == start) {
+                errors.add("Line " + line + ": missing key");
+                continue;
+            }
+
+            String key = decode(buffer, start, keyEnd);
+            key = (section.isEmpty() ? key : section + "." + key).intern();
+            if (index.containsKey(key)) {
+                errors.add("Line " + line + ": duplicate key '" + key + "'");
+                continue;
+            }
+            parseValue(key, buffer, valueStart, end, line);
+        }
+    }
+
+    // The old positional layout has the version on the first line and the file path on the second.
+    // A file is only read that way if its first line is a bare integer and no line has '=' or '[',
+    // so a stray line at the top of a key/value file is reported instead of changing the format.
+    private static boolean isLegacy(MappedByteBuffer buffer, int length) {
+        boolean first = true;
+        int position = 0;
+        while (position < length) {
+            int start = position;
+            int end = start;
+            while (end < length && buffer.get(end) != '\n') {
+                end++;
+            }
+            position = end + 1;
+
+            while (start < end && isSpace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--;
+            }
+            if (start == end || buffer.get(start) == '#' || buffer.get(start) == ';') {
+                continue;
+            }
+            if (first && !isInteger(buffer, start, end)) {
+                return false;
+            }
+            first = false;
+            if (indexOf(buffer, start, end, (byte) '=') >= 0 || indexOf(buffer, start, end, (byte) '[') >= 0) {
+                return false;
+            }
+        }
+        return !first;
+    }
+
+    private static boolean isInteger(MappedByteBuffer buffer, int start, int end) {
+        if (buffer.get(start) == '-' || buffer.get(start) == '+') {
+            start++;
+        }
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) < '0' || buffer.get(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void parseLegacyLine(MappedByteBuffer buffer, int start, int end, int line) {
+        if (!index.containsKey("version")) {
+            parseValue("version", buffer, start, end, line);
+        } else if (!index.containsKey("path")) {
+            put("path", Type.STRING, 0, decode(buffer, start, end).intern());
+        } else {
+            errors.add("Line " + line + ": unexpected extra line in two-line config");
+        }
+    }
+
+    // Stores the value in buffer[start, end) under key, using the narrowest matching type, along
+    // with its text
+    private void parseValue(String key, MappedByteBuffer buffer, int start, int end, int line) {
+        if (start == end) {
+            put(key, Type.STRING, 0, "");
+            return;
+        }
+
+        byte first = buffer.get(start);
+        if (first == '"') {
+            if (end - start < 2 || buffer.get(end - 1) != '"') {
+                errors.add("Line " + line + ": unterminated quoted value for '" + key + "'");
+                return;
+            }
+            put(key, Type.STRING, 0, decode(buffer, start + 1, end - 1).intern());
+            return;
+        }
+
+        String text = decode(buffer, start, end).intern();
+        if (matches(buffer, start, end, "true") || matches(buffer, start, end, "false")) {
+            put(key, Type.BOOLEAN, first == 't' ? 1 : 0, text);
+            return;
+        }
+
+        // Integers are accumulated digit by digit without creating a String
+        int i = start;
+        boolean negative = first == '-';
+        if (first == '-' || first == '+') {
+            i++;
+        }
+        long value = 0;
+        boolean integer = i < end;
+        for (; i < end && integer; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                integer = false;
+            } else {
+                value = value * 10 + digit;
+            }
+        }
+        if (integer) {
+            put(key, Type.LONG, negative ? -value : value, text);
+            return;
+        }
+
+        if (isDecimal(buffer, start, end)) {
+            put(key, Type.DOUBLE, Double.doubleToRawLongBits(Double.parseDouble(text)), text);
+            return;
+        }
+        put(key, Type.STRING, 0, text);
+    }
+
+    // True for a plain decimal: an optional sign, digits with an optional fraction, and an optional
+    // exponent. Double.parseDouble also accepts forms like "1f", "1d", "NaN" and "0x1p3"; those
+    // stay text.
+    private static boolean isDecimal(MappedByteBuffer buffer, int start, int end) {
+        int i = start;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            i++;
+        }
+        int digits = 0;
+        for (; i < end && isDigit(buffer.get(i)); i++) {
+            digits++;
+        }
+        if (i < end && buffer.get(i) == '.') {
+            for (i++; i < end && isDigit(buffer.get(i)); i++) {
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < end && (buffer.get(i) == 'e' || buffer.get(i) == 'E')) {
+            i++;
+            if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            for (; i < end && isDigit(buffer.get(i)); i++) {
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private void put(String key, Type type, long primitive, String string) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            strings = Arrays.copyOf(strings, capacity);
+        }
+        types[size] = type;
+        primitives[size] = primitive;
+        strings[size] = string;
+        index.put(key, size++);
+    }
+
+    private String decode(MappedByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(MappedByteBuffer buffer, int start, int end, byte target) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(MappedByteBuffer buffer, int start, int end, String ascii) {
+        if (end - start != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < ascii.length(); i++) {
+            if (buffer.get(start + i) != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    // Applies the checks of Chapter1_Challenge_1_4 to the "version" and "path" keys, collecting failures
+    public void validateChallengeConfig() {
+        validateChallengeConfig(filePath -> new File(filePath).exists());
+    }
+
+    // Same checks, with the existence of the referenced path decided by pathExists
+    public void validateChallengeConfig(Predicate<String> pathExists) {
+        if (!contains("version")) {
+            errors.add("Config file is empty or missing version info.");
+        } else if (typeOf("version") != Type.LONG) {
+            errors.add("The version must be a number.");
+        } else if (getLong("version", 0) < 2) {
+            errors.add("Config version too old!");
+        }
+
+        String filePath = contains("path") ? getString("path", null) : null;
+        if (filePath == null) {
+            errors.add("Missing file path in config.");
+        } else if (!pathExists.test(filePath)) {
+            errors.add("The file at path " + filePath + " does not exist.");
+        }
+    }
+
+    public boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    public Type typeOf(String key) {
+        Integer slot = index.get(key);
+        return slot == null ? null : types[slot];
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return slotOf(key, Type.LONG) < 0 ? defaultValue : primitives[index.get(key)];
+    }
+
+    public int getInt(String key, int defaultValue) {
+        long value = getLong(key, defaultValue);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value of '" + key + "' does not fit in an int: " + value);
+        }
+        return (int) value;
+    }
+
+    // Integers are widened, so "ratio = 1" can still be read as a double
+    public double getDouble(String key, double defaultValue) {
+        Integer slot = index.get(key);
+        if (slot == null) {
+            return defaultValue;
+        }
+        if (types[slot] == Type.LONG) {
+            return primitives[slot];
+        }
+        slotOf(key, Type.DOUBLE);
+        return Double.longBitsToDouble(primitives[slot]);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return slotOf(key, Type.BOOLEAN) < 0 ? defaultValue : primitives[index.get(key)] != 0;
+    }
+
+    // Any value can be read as text, exactly as written in the file (without the quotes of a
+    // quoted string)
+    public String getString(String key, String defaultValue) {
+        Integer slot = index.get(key);
+        return slot == null ? defaultValue : strings[slot];
+    }
+
+    // Returns -1 if key is missing; throws if it holds a different type
+    private int slotOf(String key, Type expected) {
+        Integer slot = index.get(key);
+        if (slot == null) {
+            return -1;
+        }
+        if (types[slot] != expected) {
+            throw new IllegalArgumentException("Value of '" + key + "' is " + types[slot] + ", not " + expected);
+        }
+        return slot;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<String> errors() {
+        return Collections.unmodifiableList(errors);
+    }
+}
@@ -0,0 +1,130 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypedConfigTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TypedConfig load(String text) throws IOException {
+        Path file = tempDir.resolve("config.txt");
+        Files.writeString(file, text);
+        return TypedConfig.load(file);
+    }
+
+    @Test
+    void testParsesTypedValuesAndSections() throws IOException {
+        TypedConfig config = load("# comment\n"
+            + "version = 3\n"
+            + "\n"
+            + "[server]\n"
+            + "port = 8080\n"
+            + "ratio = 0.75\n"
+            + "enabled = true\n"
+            + "name = \"main server\"\n"
+            + "host = example.org\r\n");
+
+        assertTrue(config.errors().isEmpty(), config.errors().toString());
+        assertEquals(6, config.size());
+        assertEquals(3, config.getLong("version", 0));
+        assertEquals(TypedConfig.Type.LONG, config.typeOf("server.port"));
+        assertEquals(8080, config.getInt("server.port", 0));
+        assertEquals(0.75, config.getDouble("server.ratio", 0), 0.0);
+        assertTrue(config.getBoolean("server.enabled", false));
+        assertEquals("main server", config.getString("server.name", null));
+        assertEquals("example.org", config.getString("server.host", null));
+        assertEquals(7, config.getLong("server.missing", 7));
+    }
+
+    @Test
+    void testIntegersWidenToDoubleButNotTheOtherWay() throws IOException {
+        TypedConfig config = load("whole = 1\nfraction = 1.5\n");
+
+        assertEquals(1.0, config.getDouble("whole", 0), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> config.getLong("fraction", 0));
+        assertEquals("1.5", config.getString("fraction", null));
+    }
+
+    @Test
+    void testGetStringReturnsTextAsWritten() throws IOException {
+        TypedConfig config = load("path = 0123\nratio = 1.50\nbig = 1E3\nflag = true\nsigned = +7\n");
+
+        assertEquals(TypedConfig.Type.LONG, config.typeOf("path"));
+        assertEquals(123, config.getLong("path", 0));
+        assertEquals("0123", config.getString("path", null));
+        assertEquals(1.5, config.getDouble("ratio", 0), 0.0);
+        assertEquals("1.50", config.getString("ratio", null));
+        assertEquals(1000.0, config.getDouble("big", 0), 0.0);
+        assertEquals("1E3", config.getString("big", null));
+        assertEquals("true", config.getString("flag", null));
+        assertEquals("+7", config.getString("signed", null));
+
+        config.validateChallengeConfig(path -> path.equals("0123"));
+        assertEquals(List.of("Config file is empty or missing version info."), config.errors());
+    }
+
+    @Test
+    void testOnlyPlainDecimalsAreDoubles() throws IOException {
+        TypedConfig config = load("f = 1f\nd = 1d\nnan = NaN\ninf = Infinity\nhex = 0x1p3\n"
+            + "dot = .\nexp = 1e\nhalf = .5\nneg = -2.5e-3\n");
+
+        for (String key : List.of("f", "d", "nan", "inf", "hex", "dot", "exp")) {
+            assertEquals(TypedConfig.Type.STRING, config.typeOf(key), key);
+        }
+        assertEquals("1f", config.getString("f", null));
+        assertEquals("1d", config.getString("d", null));
+        assertEquals(0.5, config.getDouble("half", 0), 0.0);
+        assertEquals(-2.5e-3, config.getDouble("neg", 0), 0.0);
+    }
+
+    @Test
+    void testCollectsErrorsWithLineNumbers() throws IOException {
+        TypedConfig config = load("a = 1\n"
+            + "a = 2\n"
+            + "[broken\n"
+            + "= 5\n"
+            + "b = \"open\n");
+
+        assertEquals(List.of(
+            "Line 2: duplicate key 'a'",
+            "Line 3: malformed section header",
+            "Line 4: missing key",
+            "Line 5: unterminated quoted value for 'b'"), config.errors());
+        assertEquals(1, config.getLong("a", 0));
+    }
+
+    @Test
+    void testReadsLegacyTwoLineFormat() throws IOException {
+        TypedConfig config = load("3\ndata/input.txt\n");
+
+        assertTrue(config.errors().isEmpty(), config.errors().toString());
+        assertEquals(3, config.getLong("version", 0));
+        assertEquals("data/input.txt", config.getString("path", null));
+    }
+
+    @Test
+    void testStrayFirstLineDoesNotSwitchToLegacyFormat() throws IOException {
+        TypedConfig config = load("oops\nversion = 3\npath = ref.txt\n");
+        config.validateChallengeConfig(path -> path.equals("ref.txt"));
+
+        assertEquals(List.of("Line 1: expected key = value"), config.errors());
+        assertEquals(3, config.getLong("version", 0));
+        assertEquals("ref.txt", config.getString("path", null));
+    }
+
+    @Test
+    void testValidatesChallengeConfig() throws IOException {
+        TypedConfig config = load("version = 1\npath = missing.txt\n");
+        config.validateChallengeConfig(path -> false);
+
+        assertEquals(List.of("Config version too old!", "The file at path missing.txt does not exist."),
+            config.errors());
+    }
+}
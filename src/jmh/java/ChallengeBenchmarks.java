@@ -0,0 +1,219 @@
+import benchmarks.Workload;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+// Workloads for the JMH benchmarks in the benchmarks package, one per hot path of the challenges.
+// They live in the default package next to the code they exercise; JMH only accepts benchmark
+// classes in a named package, and those cannot refer to the default package, so
+// benchmarks.ChallengeBenchmark looks them up by name through create(). Inputs are seeded so
+// every fork measures the same work.
+public class ChallengeBenchmarks {
+
+    static final long SEED = 42L;
+
+    // Builds the workload with the given name, e.g. "decode.writeCode"
+    public static Workload create(String name) throws IOException {
+        Map<String, Workload> benchmarks = new LinkedHashMap<>();
+        switch (name.substring(0, name.indexOf('.') + 1)) {
+            case "decode.":
+                registerDecoder(benchmarks);
+                break;
+            case "lottery.":
+                registerLottery(benchmarks);
+                break;
+            case "dungeon.":
+                registerDungeon(benchmarks);
+                break;
+            case "config.":
+                registerConfig(benchmarks);
+                break;
+            case "sprites.":
+                registerSprites(benchmarks);
+                break;
+            case "render.":
+                registerRendering(benchmarks);
+                break;
+            default:
+                break;
+        }
+        Workload workload = benchmarks.get(name);
+        if (workload == null) {
+            throw new IllegalArgumentException("Unknown benchmark: " + name);
+        }
+        return workload;
+    }
+
+    // Chapter1_Challenge_1_1: digit decoding
+    private static void registerDecoder(Map<String, Workload> benchmarks) {
+        Random random = new Random(SEED);
+        long[] numbers = new long[4_096];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = 10 + (random.nextLong() & Long.MAX_VALUE) % (Integer.MAX_VALUE - 10L);
+        }
+        byte[] out = new byte[Chapter1_Challenge_1_1.MAX_CODE_LENGTH];
+        int mask = numbers.length - 1;
+        int[] cursor = new int[1];
+
+        // The original Math.log10/Math.pow and String concatenation approach, kept as a baseline
+        benchmarks.put("decode.mathPow", ops -> {
+            long acc = 0;
+            for (int i = 0; i < ops; i++) {
+                int number = (int) numbers[cursor[0]++ & mask];
+                int numDigits = (int) Math.log10(number) + 1;
+                int firstDigit = number / (int) Math.pow(10, numDigits - 1);
+                int lastDigit = number % 10;
+                int secondDigit = (number / (int) Math.pow(10, numDigits - 2)) % 10;
+                int secondLastDigit = (number / 10) % 10;
+                String finalCode = String.valueOf(firstDigit * lastDigit) + String.valueOf(secondDigit + secondLastDigit);
+                acc += finalCode.length();
+            }
+            return acc;
+        });
+        benchmarks.put("decode.writeCode", ops -> {
+            long acc = 0;
+            for (int i = 0; i < ops; i++) {
+                acc += Chapter1_Challenge_1_1.writeCode(numbers[cursor[0]++ & mask], out, 0) + out[0];
+            }
+            return acc;
+        });
+    }
+
+    // Chapter1_Challenge_1_2: digit-average loop
+    private static void registerLottery(Map<String, Workload> benchmarks) {
+        String[] tickets = randomTickets(new Random(SEED), 4_096);
+        int mask = tickets.length - 1;
+        int[] cursor = new int[1];
+
+        benchmarks.put("lottery.digitAverage", ops -> {
+            long acc = 0;
+            for (int i = 0; i < ops; i++) {
+                String continuousNumber = tickets[cursor[0]++ & mask].replace("-", "");
+                int sum = Chapter1_Challenge_1_2.digitSum(continuousNumber);
+                acc += Double.doubleToRawLongBits((double) sum / continuousNumber.length());
+            }
+            return acc;
+        });
+
+        byte[][] ticketBytes = new byte[tickets.length][];
+        for (int i = 0; i < tickets.length; i++) {
+            ticketBytes[i] = tickets[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        benchmarks.put("lottery.parseTicket", ops -> {
+            long acc = 0;
+            for (int i = 0; i < ops; i++) {
+                byte[] ticket = ticketBytes[cursor[0]++ & mask];
+                acc += LotteryAnalyzer.parseTicket(ticket, 0, ticket.length);
+            }
+            return acc;
+        });
+    }
+
+    static String[] randomTickets(Random random, int count) {
+        String[] tickets = new String[count];
+        for (int i = 0; i < count; i++) {
+            tickets[i] = String.format("%02d-%02d-%02d-%02d-%02d", random.nextInt(100), random.nextInt(100),
+                random.nextInt(100), random.nextInt(100), random.nextInt(100));
+        }
+        return tickets;
+    }
+
+    // Chapter1_Challenge_1_3: five-room dungeon on DungeonEngine (one op is one playthrough)
+    private static void registerDungeon(Map<String, Workload> benchmarks) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        DungeonEngine engine = new DungeonEngine(DungeonEngine.Rules.DEFAULT);
+        DungeonEngine.Guesser guesser = DungeonSimulator.Strategy.RANDOM.forNumbers(
+            DungeonEngine.Rules.DEFAULT.getMonsterNumbers());
+
+        benchmarks.put("dungeon.fiveRooms", ops -> {
+            long acc = 0;
+            for (int i = 0; i < ops; i++) {
+                acc += engine.play(engine.start(), random, guesser, DungeonEngine.NO_OP);
+            }
+            return acc;
+        });
+    }
+
+    // Chapter1_Challenge_1_4: config parsing, from memory and from disk
+    private static void registerConfig(Map<String, Workload> benchmarks) throws IOException {
+        Path referenced = Files.createTempFile("challenge-bench", ".txt");
+        Path configFile = Files.createTempFile("challenge-bench-config", ".txt");
+        referenced.toFile().deleteOnExit();
+        configFile.toFile().deleteOnExit();
+        String config = "3\n" + referenced + "\n";
+        Files.writeString(configFile, config);
+        File file = configFile.toFile();
+
+        benchmarks.put("config.readConfig.memory", ops -> {
+            long acc = 0;
+            for (int i = 0; i < ops; i++) {
+                acc += Chapter1_Challenge_1_4.readConfig(new BufferedReader(new StringReader(config))).version;
+            }
+            return acc;
+        });
+        benchmarks.put("config.readConfig.file", ops -> {
+            long acc = 0;
+            for (int i = 0; i < ops; i++) {
+                try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                    acc += Chapter1_Challenge_1_4.readConfig(reader).version;
+                }
+            }
+            return acc;
+        });
+    }
+
+    // SpriteField: one op is one physics step of the whole field. The labels cover about a fifth
+    // of the area, so the area grows with the sprite count.
+    private static void registerSprites(Map<String, Workload> benchmarks) {
+        for (int count : new int[] {1_000, 16_000}) {
+            int areaWidth = (int) (250 * Math.sqrt(count));
+            int areaHeight = areaWidth * 3 / 10;
+            SpriteField field = randomField(new Random(SEED), count, areaWidth, areaHeight,
+                Runtime.getRuntime().availableProcessors());
+            benchmarks.put("sprites.step." + count, ops -> {
+                for (int i = 0; i < ops; i++) {
+                    field.step(1f / 60, areaWidth, areaHeight);
+                }
+                return (long) field.x(0);
+            });
+        }
+    }
+
+    // BouncingTextScene drawn into a BufferedImage, as HeadlessBouncingText does
+    private static void registerRendering(Map<String, Workload> benchmarks) {
+        int width = 800;
+        int height = 240;
+        BouncingTextScene scene = BouncingTextScene.headless("KANU TECHOME", new Font("Times New Roman", Font.BOLD, 40));
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        benchmarks.put("render.headlessFrame", ops -> {
+            for (int i = 0; i < ops; i++) {
+                scene.advance(1.0 / HeadlessBouncingText.UPDATES_PER_SECOND, width, height);
+                scene.draw(g, width, height);
+            }
+            return image.getRGB(0, 0);
+        });
+    }
+
+    static SpriteField randomField(Random random, int count, int areaWidth, int areaHeight, int parallelism) {
+        SpriteField field = new SpriteField(count, parallelism);
+        for (int i = 0; i < count; i++) {
+            int width = 40 + random.nextInt(120);
+            field.add("label" + i, random.nextInt(areaWidth - width), 30 + random.nextInt(areaHeight - 40),
+                random.nextInt(400) - 200, random.nextInt(400) - 200, width, 30, 8);
+        }
+        return field;
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Throughput of every workload in ChallengeBenchmarks, one operation per invocation. Each
+// workload runs in its own forked JVMs. Run with "-prof gc" for allocation per operation; the
+// GC profiler counts every thread, including the ForkJoin workers of sprites.step.*. The forks
+// run headless, so render.headlessFrame works without a display.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ChallengeBenchmark {
+
+    @Param({
+        "decode.mathPow",
+        "decode.writeCode",
+        "lottery.digitAverage",
+        "lottery.parseTicket",
+        "dungeon.fiveRooms",
+        "config.readConfig.memory",
+        "config.readConfig.file",
+        "sprites.step.1000",
+        "sprites.step.16000",
+        "render.headlessFrame"
+    })
+    public String name;
+
+    private Workload workload;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        workload = Workload.create(name);
+    }
+
+    @Benchmark
+    public long run() throws Exception {
+        return workload.run(1);
+    }
+}
@@ -0,0 +1,13 @@
+package benchmarks;
+
+// One benchmarked hot path. run performs ops operations and returns a value that depends on all
+// of them, which JMH consumes so the work cannot be optimized away.
+public interface Workload {
+
+    long run(int ops) throws Exception;
+
+    // Looks up a workload built by ChallengeBenchmarks in the default package
+    static Workload create(String name) throws ReflectiveOperationException {
+        return (Workload) Class.forName("ChallengeBenchmarks").getMethod("create", String.class).invoke(null, name);
+    }
+}